@@ -4,6 +4,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     id("org.ec4j.editorconfig") version "0.1.0"
     id("checkstyle")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.gamee"
@@ -70,6 +71,11 @@ dependencies {
     implementation("com.mysql:mysql-connector-j")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.projectreactor:reactor-core")
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+    implementation("io.github.resilience4j:resilience4j-micrometer:2.2.0")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("jakarta.validation:jakarta.validation-api:3.0.0")
     implementation("org.hibernate.validator:hibernate-validator:9.0.0.CR1")
@@ -89,6 +95,14 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// 성능 측정용 JMH 벤치마크 (src/jmh/java), ./gradlew jmh 로 실행
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
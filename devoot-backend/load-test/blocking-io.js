@@ -0,0 +1,93 @@
+// 블로킹 I/O 경로 부하 시나리오 (k6)
+//
+// /api/lectures/search (Elasticsearch) 와 /api/users/{profileId} (MariaDB) 에
+// 같은 도착률을 걸어 처리량과 p99 를 비교한다. 플랫폼 스레드 / 가상 스레드 모드를 각각 띄워서 두 번 실행한다.
+//
+//   VIRTUAL_THREADS_ENABLED=false java -jar app.jar
+//   k6 run -e MODE=platform -e BASE_URL=http://localhost:8080 -e TOKEN=<firebase id token> -e PROFILE_ID=<profileId> load-test/blocking-io.js
+//
+//   VIRTUAL_THREADS_ENABLED=true JAVA_TOOL_OPTIONS=-Djdk.tracePinnedThreads=short java -jar app.jar
+//   k6 run -e MODE=virtual ... load-test/blocking-io.js
+//
+// 가상 스레드 모드에서는 jdk.tracePinnedThreads 출력(또는 JFR jdk.VirtualThreadPinned 이벤트)으로
+// 드라이버의 synchronized 구간에서 캐리어 스레드가 고정(pinning)되는지 확인한다.
+// 결과는 summary-<MODE>.json 으로 저장된다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+
+const QUERIES = ['', '자바', 'spring', 'react', '파이썬', 'docker', 'kotlin', '알고리즘'];
+const CATEGORIES = ['백엔드', '프론트엔드', '데이터베이스', '인공지능'];
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  // 엔드포인트별 p99 를 summary 에 남기기 위한 sub-metric 임계값
+  thresholds: {
+    'http_req_duration{endpoint:search}': ['p(99)<2000'],
+    'http_req_duration{endpoint:profile}': ['p(99)<2000'],
+  },
+  scenarios: {
+    search: {
+      executor: 'constant-arrival-rate',
+      exec: 'search',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+    },
+    profile: {
+      executor: 'constant-arrival-rate',
+      exec: 'profile',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+    },
+  },
+};
+
+export function search() {
+  const query = QUERIES[Math.floor(Math.random() * QUERIES.length)];
+  const params = query
+    ? `query=${encodeURIComponent(query)}`
+    : `category=${encodeURIComponent(CATEGORIES[Math.floor(Math.random() * CATEGORIES.length)])}`;
+  const page = 1 + Math.floor(Math.random() * 5);
+  const res = http.get(`${BASE_URL}/api/lectures/search?${params}&page=${page}&size=20`, {
+    tags: { endpoint: 'search' },
+  });
+  check(res, { 'search 200': (r) => r.status === 200 });
+}
+
+export function profile() {
+  const res = http.get(`${BASE_URL}/api/users/${__ENV.PROFILE_ID}`, {
+    headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+    tags: { endpoint: 'profile' },
+  });
+  check(res, { 'profile 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  const pick = (name) => {
+    const metric = data.metrics[name];
+    return metric ? metric.values : null;
+  };
+  const result = {
+    mode: MODE,
+    rate: RATE,
+    duration: DURATION,
+    iterations: pick('iterations'),
+    dropped: pick('dropped_iterations'),
+    search: pick('http_req_duration{endpoint:search}'),
+    profile: pick('http_req_duration{endpoint:profile}'),
+  };
+  return {
+    stdout: JSON.stringify(result, null, 2) + '\n',
+    [`summary-${MODE}.json`]: JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,41 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * FirebaseAuthenticationFilter 의 경로 판별 비용 비교.
+ * legacy: 기존 필터의 String.matches 3개 x 4블록, precompiled: PublicRoutes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRoutesBenchmark {
+	@Param({"/api/lectures/1234", "/api/lectures/search", "/api/reviews/lectures/1234", "/api/users/me/bookmarks"})
+	public String requestUri;
+
+	public String method = "GET";
+
+	@Benchmark
+	public boolean legacy() {
+		for (int i = 0; i < 4; i++) {
+			if ("GET".equalsIgnoreCase(method)
+				&& (requestUri.matches("^/api/lectures/\\d+") || requestUri.matches("^/api/lectures/search/*") || requestUri.matches("^/api/reviews/lectures/\\d+"))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean precompiled() {
+		return PublicRoutes.isTokenOnly(requestUri) || PublicRoutes.isAnonymousGet(method, requestUri);
+	}
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.gamee.devoot_backend.bookmark.dto.BookmarkCreateDto;
 import com.gamee.devoot_backend.bookmark.dto.BookmarkDetailDto;
@@ -46,9 +48,13 @@ public class BookmarkController {
 	@GetMapping
 	public ResponseEntity<?> getBookmarks(
 		@AuthenticationPrincipal CustomUserDetails user,
-		@PathVariable String profileId) {
+		@PathVariable String profileId,
+		WebRequest request) {
+		if (request.checkNotModified(bookmarkService.getBookmarksEtag(user, profileId))) {
+			return null;
+		}
 		Map<String, List<BookmarkWithLectureDetailDto>> bookmarks = bookmarkService.getBookmarks(user, profileId);
-		return ResponseEntity.status(HttpStatus.OK).body(bookmarks);
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache().cachePrivate()).body(bookmarks);
 	}
 
 	@DeleteMapping("/{bookmarkId}")
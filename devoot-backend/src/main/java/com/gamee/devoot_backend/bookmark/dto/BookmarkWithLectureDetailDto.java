@@ -13,11 +13,11 @@ public record BookmarkWithLectureDetailDto(
 	Long nextId,
 	LectureShortDetailDto lecture
 ) {
-	public static BookmarkWithLectureDetailDto of(Bookmark bookmark) {
+	public static BookmarkWithLectureDetailDto of(Bookmark bookmark, String curriculum) {
 		return BookmarkWithLectureDetailDto.builder()
 			.id(bookmark.getId())
 			.userId(bookmark.getUserId())
-			.lecture(LectureShortDetailDto.of(bookmark.getLecture()))
+			.lecture(LectureShortDetailDto.of(bookmark.getLecture(), curriculum))
 			.status(bookmark.getStatus())
 			.nextId(bookmark.getNextId())
 			.build();
@@ -1,5 +1,7 @@
 package com.gamee.devoot_backend.bookmark.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,11 +33,22 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 		""")
 	List<Bookmark> findBookmarksByUserId(Long userId);
 
+	/**
+	 * 사용자가 북마크한 강의 중 가장 최근에 바뀐 강의의 updatedAt. 북마크가 없으면 null.
+	 */
+	@Query("""
+		SELECT MAX(l.updatedAt)
+		FROM Bookmark b
+		JOIN b.lecture l
+		WHERE b.userId = :userId
+		""")
+	LocalDateTime findLatestLectureUpdatedAtByUserId(Long userId);
+
 	Optional<Bookmark> findByUserIdAndLectureId(Long userId, Long lectureId);
 
+	List<Bookmark> findByUserIdAndLectureIdIn(Long userId, Collection<Long> lectureIds);
+
 	Optional<Bookmark> findByUserIdAndNextId(Long userId, Long id);
 
 	Optional<Bookmark> findByUserIdAndStatusAndNextId(Long userId, Integer status, Long id);
-
-	Long countByLectureId(Long lectureId);
 }
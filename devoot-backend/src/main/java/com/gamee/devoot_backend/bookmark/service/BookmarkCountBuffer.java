@@ -0,0 +1,114 @@
+package com.gamee.devoot_backend.bookmark.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의별 북마크 수 증감분을 메모리에 모았다가 주기적으로 lecture.bookmarkCnt 에 한 번에 반영한다.
+ * <ul>
+ *     <li>증감분은 북마크 트랜잭션이 커밋된 뒤에 더해지며, 같은 강의끼리만 ConcurrentHashMap 의 bin 단위로 경합한다</li>
+ *     <li>반영할 때 statsOnly outbox 를 함께 남기므로 ES 의 bookmarkCnt 는 relay 가 부분 업데이트로 맞춘다</li>
+ *     <li>반영 전에 인스턴스가 비정상 종료되어 잃은 증감분은 BookmarkRecountJob 이 다시 센다</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookmarkCountBuffer {
+	private final ConcurrentHashMap<Long, Integer> deltas = new ConcurrentHashMap<>();
+	private final LectureRepository lectureRepository;
+	private final LectureOutboxRepository lectureOutboxRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public void increment(long lectureId) {
+		add(lectureId, 1);
+	}
+
+	public void decrement(long lectureId) {
+		add(lectureId, -1);
+	}
+
+	/**
+	 * 아직 DB 에 반영되지 않은 이 인스턴스의 증감분
+	 */
+	public int pending(long lectureId) {
+		return deltas.getOrDefault(lectureId, 0);
+	}
+
+	@Scheduled(fixedDelayString = "${bookmark.count.flush-interval:5000}")
+	public void flush() {
+		Map<Long, Integer> drained = drain();
+		if (drained.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> apply(drained));
+		} catch (Exception e) {
+			log.warn("Failed to flush bookmark counts of {} lectures, will retry", drained.size(), e);
+			drained.forEach(this::merge);
+		}
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private void add(long lectureId, int delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			merge(lectureId, delta);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				merge(lectureId, delta);
+			}
+		});
+	}
+
+	private void merge(long lectureId, int delta) {
+		// 합이 0 이 되면 항목을 지운다
+		deltas.merge(lectureId, delta, (current, added) -> current + added == 0 ? null : current + added);
+	}
+
+	/**
+	 * 항목을 하나씩 remove 로 꺼내므로, 꺼내는 동안 들어온 증감분은 잃지 않고 다음 flush 로 넘어간다.
+	 */
+	Map<Long, Integer> drain() {
+		Map<Long, Integer> drained = new HashMap<>();
+		for (Long lectureId : deltas.keySet()) {
+			Integer delta = deltas.remove(lectureId);
+			if (delta != null) {
+				drained.put(lectureId, delta);
+			}
+		}
+		return drained;
+	}
+
+	private void apply(Map<Long, Integer> drained) {
+		// 대부분 +1/-1 이라 증감분이 같은 강의끼리 묶으면 UPDATE 몇 번으로 끝난다
+		Map<Integer, List<Long>> lectureIdsByDelta = drained.entrySet().stream()
+			.collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+		lectureIdsByDelta.forEach((delta, lectureIds) -> lectureRepository.addBookmarkCnt(lectureIds, delta));
+		lectureOutboxRepository.saveAll(drained.keySet().stream().map(LectureOutbox::statsOf).toList());
+	}
+}
@@ -20,8 +20,11 @@ import com.gamee.devoot_backend.bookmark.exception.BookmarkPermissionDeniedExcep
 import com.gamee.devoot_backend.bookmark.exception.DuplicateBookmarkException;
 import com.gamee.devoot_backend.bookmark.repository.BookmarkLogRepository;
 import com.gamee.devoot_backend.bookmark.repository.BookmarkRepository;
+import com.gamee.devoot_backend.common.Util;
 import com.gamee.devoot_backend.follow.service.FollowService;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
 import com.gamee.devoot_backend.lecture.exception.LectureNotFoundException;
+import com.gamee.devoot_backend.lecture.repository.LectureCurriculumRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
 import com.gamee.devoot_backend.user.entity.User;
@@ -35,8 +38,10 @@ public class BookmarkService {
 	private final BookmarkRepository bookmarkRepository;
 	private final BookmarkLogRepository bookmarkLogRepository;
 	private final LectureRepository lectureRepository;
+	private final LectureCurriculumRepository lectureCurriculumRepository;
 	private final UserService userService;
 	private final FollowService followService;
+	private final BookmarkCountBuffer bookmarkCountBuffer;
 
 	@Transactional
 	public BookmarkDetailDto addBookmark(CustomUserDetails user, String profileId, BookmarkCreateDto dto) {
@@ -59,6 +64,8 @@ public class BookmarkService {
 				},
 				() -> bookmarkRepository.save(bookmark)
 			);
+		bookmarkCountBuffer.increment(bookmark.getLectureId());
+		userService.increaseBookmarkVersion(user.id());
 
 		bookmarkLogRepository.save(BookmarkLog.builder()
 			.lectureId(bookmark.getLectureId())
@@ -71,6 +78,16 @@ public class BookmarkService {
 		return BookmarkDetailDto.of(bookmark);
 	}
 
+	/**
+	 * 북마크 보드의 ETag. 접근 확인과 함께 읽은 사용자의 bookmarkVersion 과, 북마크한 강의 중 가장 최근의 updatedAt 으로 만든다.
+	 * 강의 쪽 변경(이름, 가격, 이미지, curriculum)은 updatedAt 으로 반영된다.
+	 */
+	public String getBookmarksEtag(CustomUserDetails user, String profileId) {
+		User followedUser = followService.validateAccessAndFetchFollowedUser(user, profileId);
+		return Util.etag(followedUser.getId(), followedUser.getBookmarkVersion(),
+			bookmarkRepository.findLatestLectureUpdatedAtByUserId(followedUser.getId()));
+	}
+
 	public Map<String, List<BookmarkWithLectureDetailDto>> getBookmarks(CustomUserDetails user, String profileId) {
 		User followedUser = followService.validateAccessAndFetchFollowedUser(user, profileId);
 		Map<String, List<Bookmark>> bookmarks = new LinkedHashMap<>();
@@ -94,12 +111,20 @@ public class BookmarkService {
 				addBookmarksInOrder(bookmark, bookmarkMap, bookmarks.get("done"));
 			});
 
+		// curriculum 은 할 일 추가 화면에서 진행 중인 강의의 것만 쓰므로 그 강의들만 한 번에 읽는다
+		List<Long> inProgressLectureIds = bookmarks.get("in-progress").stream()
+			.map(Bookmark::getLectureId)
+			.toList();
+		Map<Long, String> curriculums = lectureCurriculumRepository.findAllById(inProgressLectureIds).stream()
+			.filter(lectureCurriculum -> lectureCurriculum.getCurriculum() != null)
+			.collect(Collectors.toMap(LectureCurriculum::getId, LectureCurriculum::getCurriculum));
+
 		return bookmarks.entrySet()
 			.stream()
 			.collect(Collectors.toMap(
 				Map.Entry::getKey,
 				entry -> entry.getValue().stream()
-					.map(BookmarkWithLectureDetailDto::of)
+					.map(bookmark -> BookmarkWithLectureDetailDto.of(bookmark, curriculums.get(bookmark.getLectureId())))
 					.collect(Collectors.toList())
 			));
 	}
@@ -129,6 +154,7 @@ public class BookmarkService {
 		bookmark.setNextId(newNextId);
 		bookmark.setStatus(newStatus);
 		bookmarkRepository.save(bookmark);
+		userService.increaseBookmarkVersion(user.id());
 
 		if (beforeStatus != newStatus) {
 			bookmarkLogRepository.save(BookmarkLog.builder()
@@ -152,6 +178,8 @@ public class BookmarkService {
 				bookmarkRepository.save(beforeBookmark);
 			});
 		bookmarkRepository.delete(bookmark);
+		bookmarkCountBuffer.decrement(bookmark.getLectureId());
+		userService.increaseBookmarkVersion(user.id());
 	}
 
 	private void addBookmarksInOrder(Bookmark startBookmark, Map<Long, Bookmark> bookmarkMap, List<Bookmark> bookmarks) {
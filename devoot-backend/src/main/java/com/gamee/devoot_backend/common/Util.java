@@ -2,6 +2,8 @@ package com.gamee.devoot_backend.common;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -42,4 +44,11 @@ public class Util {
 		}
 		return result;
 	}
+
+	/**
+	 * 조건부 GET 에 쓰는 strong ETag. 응답 본문을 결정하는 값들을 이어 붙여 해시한다.
+	 */
+	public static String etag(Object... parts) {
+		return "\"" + sha256(Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(":"))) + "\"";
+	}
 }
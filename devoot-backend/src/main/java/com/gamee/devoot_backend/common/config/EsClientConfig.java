@@ -1,17 +1,29 @@
 package com.gamee.devoot_backend.common.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchClient;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+
+import co.elastic.clients.transport.ElasticsearchTransport;
 
 @Configuration
 @Profile("!test")
 public class EsClientConfig extends ElasticsearchConfiguration {
 	@Value("${ELASTIC_PASSWORD}")
 	private String password;
+	@Value("${spring.elasticsearch.connection-timeout:1s}")
+	private Duration connectTimeout;
+	@Value("${spring.elasticsearch.socket-timeout:3s}")
+	private Duration socketTimeout;
 
 	@Bean
 	@Override
@@ -19,6 +31,24 @@ public class EsClientConfig extends ElasticsearchConfiguration {
 		return ClientConfiguration.builder()
 			.connectedTo("devoot-elasticsearch:9200")
 			.withBasicAuth("elastic", password)
+			.withConnectTimeout(connectTimeout)
+			.withSocketTimeout(socketTimeout)
 			.build();
 	}
+
+	/**
+	 * 동기 클라이언트와 같은 transport 를 쓰는 비동기 클라이언트. 검색 요청에 deadline 을 걸 때 사용한다.
+	 */
+	@Bean
+	public ReactiveElasticsearchClient reactiveElasticsearchClient(ElasticsearchTransport elasticsearchTransport) {
+		return new ReactiveElasticsearchClient(elasticsearchTransport);
+	}
+
+	@Bean
+	public ReactiveElasticsearchOperations reactiveElasticsearchOperations(
+		ReactiveElasticsearchClient reactiveElasticsearchClient,
+		ElasticsearchConverter elasticsearchConverter
+	) {
+		return new ReactiveElasticsearchTemplate(reactiveElasticsearchClient, elasticsearchConverter);
+	}
 }
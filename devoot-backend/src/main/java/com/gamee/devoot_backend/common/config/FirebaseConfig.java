@@ -4,22 +4,36 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.gamee.devoot_backend.user.firebase.FirebaseKeySource;
+import com.gamee.devoot_backend.user.firebase.FirebaseKeyStore;
+import com.gamee.devoot_backend.user.firebase.FirebaseTokenVerifier;
+import com.gamee.devoot_backend.user.firebase.JwksKeySource;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.google.firebase.ImplFirebaseTrampolines;
 import com.google.firebase.auth.FirebaseAuth;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class FirebaseConfig {
 	@Value("${firebase.config.path}")
 	private String firebaseConfigPath;
 
+	@Value("${firebase.project-id:}")
+	private String firebaseProjectId;
+
+	@Value("${firebase.jwks-url:" + JwksKeySource.FIREBASE_JWKS_URL + "}")
+	private String firebaseJwksUrl;
+
 	@Bean
 	public FirebaseApp firebaseApp() throws IOException {
 		// Check if FirebaseApp is already initialized
@@ -48,4 +62,17 @@ public class FirebaseConfig {
 			throw new RuntimeException(e);
 		}
 	}
+
+	@Bean
+	public FirebaseKeySource firebaseKeySource() {
+		return new JwksKeySource(firebaseJwksUrl);
+	}
+
+	@Bean
+	public FirebaseTokenVerifier firebaseTokenVerifier(FirebaseKeyStore firebaseKeyStore, MeterRegistry meterRegistry) throws IOException {
+		String projectId = firebaseProjectId.isBlank()
+			? ImplFirebaseTrampolines.getProjectId(firebaseApp())
+			: firebaseProjectId;
+		return new FirebaseTokenVerifier(firebaseKeyStore, projectId, Clock.systemUTC(), meterRegistry);
+	}
 }
@@ -15,6 +15,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.gamee.devoot_backend.user.firebase.FirebaseAuthenticationFilter;
+import com.gamee.devoot_backend.user.firebase.PublicRoutes;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,15 +33,12 @@ public class SecurityConfig {
 			.cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers("/error").permitAll()
-				.requestMatchers("/api/users/check-profile-id").permitAll()
-				.requestMatchers("/api/users/register").permitAll()
+				.requestMatchers(PublicRoutes.TOKEN_ONLY_MATCHER).permitAll()
 				.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 				.requestMatchers("/api/users/me").authenticated() // 인증 필요
 				.requestMatchers("/api/lectures/search").permitAll()
 				.requestMatchers("/api/login").permitAll()
-				.requestMatchers(request -> request.getRequestURI().matches("/api/lectures/\\d+")).permitAll()
-				.requestMatchers(request -> request.getRequestURI().matches("/api/reviews/lectures/\\d+")).permitAll()
-				.requestMatchers(request -> request.getRequestURI().matches("/api/users.register")).permitAll()
+				.requestMatchers(PublicRoutes.ANONYMOUS_MATCHER).permitAll()
 				.anyRequest().authenticated()
 			)
 			.addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
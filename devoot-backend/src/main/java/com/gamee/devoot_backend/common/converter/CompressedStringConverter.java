@@ -0,0 +1,90 @@
+package com.gamee.devoot_backend.common.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 큰 문자열을 MariaDB COMPRESS() 와 같은 형식(원문 길이 4바이트 little-endian + zlib)으로 저장한다.
+ * DB 에서 COMPRESS()/UNCOMPRESS() 로 넣고 읽은 값과 서로 호환된다.
+ * 압축되지 않은 채 저장된 예전 값은 그대로 읽는다.
+ */
+@Converter
+public class CompressedStringConverter implements AttributeConverter<String, byte[]> {
+	private static final int LENGTH_BYTES = 4;
+
+	@Override
+	public byte[] convertToDatabaseColumn(String attribute) {
+		if (attribute == null) {
+			return null;
+		}
+		if (attribute.isEmpty()) {
+			return new byte[0];
+		}
+		byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+		Deflater deflater = new Deflater();
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(LENGTH_BYTES + raw.length / 4);
+			out.writeBytes(ByteBuffer.allocate(LENGTH_BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(raw.length).array());
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	public String convertToEntityAttribute(byte[] dbData) {
+		if (dbData == null) {
+			return null;
+		}
+		if (!isCompressed(dbData)) {
+			return new String(dbData, StandardCharsets.UTF_8);
+		}
+		// MariaDB 는 상위 2비트를 쓰지 않는다
+		int length = ByteBuffer.wrap(dbData, 0, LENGTH_BYTES).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0x3FFFFFFF;
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(dbData, LENGTH_BYTES, dbData.length - LENGTH_BYTES);
+			byte[] raw = new byte[length];
+			int read = 0;
+			while (read < length && !inflater.finished()) {
+				int inflated = inflater.inflate(raw, read, length - read);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("Truncated compressed value");
+				}
+				read += inflated;
+			}
+			return new String(raw, 0, read, StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Invalid compressed value", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * 길이 4바이트 뒤에 zlib 헤더(0x78, 헤더 값이 31 의 배수)가 있으면 압축된 값이다.
+	 * JSON 원문은 '{' 나 '[' 로 시작하므로 이 자리에 zlib 헤더가 올 일이 없다.
+	 */
+	static boolean isCompressed(byte[] dbData) {
+		if (dbData.length < LENGTH_BYTES + 2) {
+			return false;
+		}
+		int cmf = dbData[LENGTH_BYTES] & 0xFF;
+		int flg = dbData[LENGTH_BYTES + 1] & 0xFF;
+		return cmf == 0x78 && ((cmf << 8) | flg) % 31 == 0;
+	}
+}
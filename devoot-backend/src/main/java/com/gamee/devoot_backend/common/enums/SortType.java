@@ -1,5 +1,19 @@
 package com.gamee.devoot_backend.common.enums;
 
 public enum SortType {
-	NEWEST, POPULAR, PRICE_DESC, PRICE_ASC, RELEVANCE
+	NEWEST, POPULAR, MOST_BOOKMARKED, PRICE_DESC, PRICE_ASC, RELEVANCE;
+
+	/**
+	 * 비어 있거나 알 수 없는 값이면 RELEVANCE.
+	 */
+	public static SortType resolve(String sort) {
+		if (sort == null || sort.isBlank()) {
+			return RELEVANCE;
+		}
+		try {
+			return valueOf(sort.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return RELEVANCE;
+		}
+	}
 }
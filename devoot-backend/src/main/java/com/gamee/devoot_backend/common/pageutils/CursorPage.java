@@ -0,0 +1,35 @@
+package com.gamee.devoot_backend.common.pageutils;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * search_after 기반 페이지. nextCursor 가 null 이면 마지막 페이지.
+ * degraded 응답의 nextCursor 는 요청한 커서 그대로이므로 같은 커서로 다시 요청하면 된다.
+ */
+@Getter
+public class CursorPage<T> {
+	private final List<T> content;
+	private final long totalElements;
+	private final String nextCursor;
+	private final Map<String, Object> aggregations;
+	// 대체 경로로 만든 결과(예: ES 장애 시 DB 검색)일 때만 응답에 포함된다
+	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+	private final boolean degraded;
+
+	public CursorPage(List<T> content, long totalElements, String nextCursor, Map<String, Object> aggregations, boolean degraded) {
+		this.content = content;
+		this.totalElements = totalElements;
+		this.nextCursor = nextCursor;
+		this.aggregations = aggregations;
+		this.degraded = degraded;
+	}
+
+	public CursorPage(List<T> content, long totalElements, String nextCursor, Map<String, Object> aggregations) {
+		this(content, totalElements, nextCursor, aggregations, false);
+	}
+}
@@ -5,6 +5,8 @@ import java.util.Map;
 
 import org.springframework.data.domain.Page;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Getter;
 
 @Getter
@@ -13,12 +15,20 @@ public class CustomPage<T> {
 	private final int totalPages;
 	private final List<T> content;
 	private final Map<String, Object> aggregations;
+	// 대체 경로로 만든 결과(예: ES 장애 시 DB 검색)일 때만 응답에 포함된다
+	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+	private final boolean degraded;
 
-	public CustomPage(Page<T> page, Map<String, Object> aggregations) {
+	public CustomPage(Page<T> page, Map<String, Object> aggregations, boolean degraded) {
 		content = page.getContent();
 		totalElements = page.getTotalElements();
 		totalPages = page.getTotalPages();
 		this.aggregations = aggregations;
+		this.degraded = degraded;
+	}
+
+	public CustomPage(Page<T> page, Map<String, Object> aggregations) {
+		this(page, aggregations, false);
 	}
 
 	public CustomPage(Page<T> page) {
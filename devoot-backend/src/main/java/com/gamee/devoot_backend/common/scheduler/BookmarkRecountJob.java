@@ -0,0 +1,69 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gamee.devoot_backend.lecture.dto.LectureBookmarkCntDto;
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lecture.bookmarkCnt 를 bookmark 테이블에서 다시 세어 어긋난 강의만 고친다.
+ * 인스턴스가 반영 전에 종료되어 잃은 BookmarkCountBuffer 의 증감분 같은 drift 를 바로잡는다.
+ * 고친 강의는 statsOnly outbox 로 ES 에도 반영된다.
+ * 재계산과 같은 순간에 아직 반영되지 않은 증감분이 있으면 그만큼 다시 어긋날 수 있는데, 이것은 다음 실행에서 고쳐진다.
+ */
+@Service
+@Slf4j
+public class BookmarkRecountJob {
+	private static final String JOB_NAME = "bookmark-recount";
+
+	@Autowired
+	private LectureRepository lectureRepository;
+	@Autowired
+	private LectureOutboxRepository lectureOutboxRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${bookmark.recount.chunk-size:1000}")
+	private int chunkSize;
+
+	@Scheduled(cron = "${bookmark.recount.cron:0 0 5 * * *}")
+	public void recountBookmarks() {
+		exclusiveJobRunner.run(JOB_NAME, Duration.ofHours(1), Duration.ofMinutes(1), this::recount);
+	}
+
+	void recount() {
+		long start = System.nanoTime();
+		long maxId = lectureRepository.findMaxId();
+		int repaired = 0;
+		for (long afterId = 0; afterId < maxId; afterId += chunkSize) {
+			long toId = Math.min(afterId + chunkSize, maxId);
+			List<LectureBookmarkCntDto> drifts = lectureRepository.findBookmarkCntDriftsInRange(afterId, toId);
+			if (!drifts.isEmpty()) {
+				transactionTemplate.executeWithoutResult(status -> repair(drifts));
+				repaired += drifts.size();
+			}
+		}
+		log.info("Recounted bookmarks of lectures up to {} in {} ms: {} repaired", maxId, (System.nanoTime() - start) / 1_000_000, repaired);
+	}
+
+	private void repair(List<LectureBookmarkCntDto> drifts) {
+		for (LectureBookmarkCntDto drift : drifts) {
+			log.debug("Lecture {} bookmarkCnt {} -> {}", drift.id(), drift.bookmarkCnt(), drift.actualCnt());
+			lectureRepository.updateBookmarkCnt(drift.id(), (int)drift.actualCnt());
+		}
+		lectureOutboxRepository.saveAll(drifts.stream().map(drift -> LectureOutbox.statsOf(drift.id())).toList());
+	}
+}
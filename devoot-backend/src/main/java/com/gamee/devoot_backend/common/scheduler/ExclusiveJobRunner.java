@@ -0,0 +1,152 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 인스턴스 중 하나에서만 주기 작업을 실행하도록 schedulerlease 테이블로 실행권을 나눈다.
+ * <pre>
+ * &#64;Scheduled(cron = "...")
+ * public void job() {
+ *     exclusiveJobRunner.run("job-name", Duration.ofMinutes(10), Duration.ofSeconds(30), this::doJob);
+ * }
+ * </pre>
+ * lockAtMostFor 가 지나면 실행 중인 인스턴스가 죽었다고 보고 다른 인스턴스가 가져간다.
+ * lockAtLeastFor 는 인스턴스 간 시계/스케줄 오차로 같은 주기의 작업이 두 번 실행되지 않도록 잡아두는 최소 시간이다.
+ * 같은 인스턴스 안에서는 lease 의 owner 가 같으므로, 실행 중인 작업 이름을 따로 기억해 겹쳐 실행되지 않게 한다.
+ */
+@Component
+@Slf4j
+public class ExclusiveJobRunner {
+	private final SchedulerLeaseRepository schedulerLeaseRepository;
+	private final Clock clock;
+	private final String owner;
+	private final Set<String> running = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "scheduler-lease-renewal");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Autowired
+	public ExclusiveJobRunner(SchedulerLeaseRepository schedulerLeaseRepository) {
+		this(schedulerLeaseRepository, Clock.systemDefaultZone(),
+			ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8));
+	}
+
+	ExclusiveJobRunner(SchedulerLeaseRepository schedulerLeaseRepository, Clock clock, String owner) {
+		this.schedulerLeaseRepository = schedulerLeaseRepository;
+		this.clock = clock;
+		this.owner = owner;
+	}
+
+	/**
+	 * 실행권을 얻으면 job 을 실행하고 true 를 돌려준다. 다른 인스턴스가 가지고 있으면 아무것도 하지 않는다.
+	 */
+	public boolean run(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+		LocalDateTime acquiredAt = LocalDateTime.now(clock);
+		if (!acquire(name, acquiredAt, lockAtMostFor)) {
+			return false;
+		}
+		try {
+			job.run();
+		} finally {
+			release(name, acquiredAt.plus(lockAtLeastFor));
+		}
+		return true;
+	}
+
+	/**
+	 * 실행권을 얻으면 job 을 executor 에 넘기고 바로 true 를 돌려준다.
+	 * job 이 끝날 때까지 lockAtMostFor 의 절반마다 lease 를 연장하므로, lockAtMostFor 보다 오래 걸리는 작업도 실행권을 잃지 않는다.
+	 */
+	public boolean runAsync(String name, Duration lockAtMostFor, Executor executor, Runnable job) {
+		LocalDateTime acquiredAt = LocalDateTime.now(clock);
+		if (!acquire(name, acquiredAt, lockAtMostFor)) {
+			return false;
+		}
+		long period = Math.max(1, lockAtMostFor.toMillis() / 2);
+		ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(name, lockAtMostFor), period, period, TimeUnit.MILLISECONDS);
+		try {
+			executor.execute(() -> {
+				try {
+					job.run();
+				} finally {
+					renewal.cancel(false);
+					release(name, acquiredAt);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			renewal.cancel(false);
+			release(name, acquiredAt);
+			throw e;
+		}
+		return true;
+	}
+
+	private boolean acquire(String name, LocalDateTime now, Duration lockAtMostFor) {
+		if (!running.add(name)) {
+			log.debug("Skipping {}: already running on this instance", name);
+			return false;
+		}
+		if (!tryAcquire(name, now, now.plus(lockAtMostFor))) {
+			running.remove(name);
+			log.debug("Skipping {}: lease held by another instance", name);
+			return false;
+		}
+		return true;
+	}
+
+	private void renew(String name, Duration lockAtMostFor) {
+		try {
+			LocalDateTime now = LocalDateTime.now(clock);
+			if (schedulerLeaseRepository.tryAcquire(name, owner, now, now.plus(lockAtMostFor)) != 1) {
+				log.warn("Lost lease {} while the job is still running", name);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to renew lease {}", name, e);
+		}
+	}
+
+	private void release(String name, LocalDateTime minimum) {
+		try {
+			LocalDateTime now = LocalDateTime.now(clock);
+			schedulerLeaseRepository.release(name, owner, now.isAfter(minimum) ? now : minimum);
+		} finally {
+			running.remove(name);
+		}
+	}
+
+	boolean tryAcquire(String name, LocalDateTime now, LocalDateTime leaseUntil) {
+		if (schedulerLeaseRepository.tryAcquire(name, owner, now, leaseUntil) == 1) {
+			return true;
+		}
+		if (schedulerLeaseRepository.existsById(name)) {
+			return false;
+		}
+		// 동시에 행을 만든 인스턴스가 있으면 키 중복으로 실패한다
+		try {
+			schedulerLeaseRepository.insert(name, owner, now, leaseUntil);
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+}
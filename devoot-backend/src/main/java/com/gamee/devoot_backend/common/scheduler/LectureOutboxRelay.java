@@ -0,0 +1,164 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureDetailCache;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lectureoutbox 에 쌓인 변경을 몇 초 간격으로 ES 에 반영한다.
+ * 같은 강의의 여러 기록은 한 번만 색인하고(리뷰 통계/북마크 수만 바뀐 강의는 부분 업데이트), 색인에 실패한 강의의 기록은 남겨 두었다가 다음 실행에서 다시 시도한다.
+ * maxAttempts 번 실패한 기록은 로그로 남기고 버린다. 그 강의의 문서는 LectureReconciliationJob 이 다시 맞춘다.
+ * DB 에서 사라진 강의는 ES 문서를 지운다.
+ */
+@Service
+@Slf4j
+public class LectureOutboxRelay {
+	public static final String LEASE_NAME = "lecture-outbox-relay";
+	private static final IndexCoordinates LECTURE_INDEX = IndexCoordinates.of("lectures");
+
+	@Autowired
+	private LectureOutboxRepository lectureOutboxRepository;
+	@Autowired
+	private LectureRepository lectureRepository;
+	@Autowired
+	private LectureBulkIndexer lectureBulkIndexer;
+	@Autowired
+	private LectureSearchCache lectureSearchCache;
+	@Autowired
+	private LectureDetailCache lectureDetailCache;
+	@Autowired
+	private ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${lecture.outbox.batch-size:500}")
+	private int batchSize;
+	@Value("${lecture.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Scheduled(fixedDelayString = "${lecture.outbox.relay-interval:2000}")
+	public void relay() {
+		exclusiveJobRunner.run(LEASE_NAME, Duration.ofMinutes(1), Duration.ZERO, this::drain);
+	}
+
+	void drain() {
+		while (true) {
+			List<LectureOutbox> entries = lectureOutboxRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+			if (entries.isEmpty()) {
+				return;
+			}
+
+			// 같은 강의에 전체 변경 기록이 하나라도 있으면 문서 전체를, 통계 기록만 있으면 부분 업데이트를 보낸다
+			Set<Long> fullIds = entries.stream()
+				.filter(entry -> !entry.isStatsOnly())
+				.map(LectureOutbox::getLectureId)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+			Set<Long> statsIds = entries.stream()
+				.map(LectureOutbox::getLectureId)
+				.filter(lectureId -> !fullIds.contains(lectureId))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+			// 상세 캐시는 커밋된 변경을 보고 비운다 (평점만 바뀐 강의 포함)
+			lectureDetailCache.invalidateAll(entries.stream().map(LectureOutbox::getLectureId).toList());
+
+			long start = System.nanoTime();
+			int updated = 0;
+			int indexed = 0;
+			int deleted = 0;
+			Map<String, String> failures = new HashMap<>();
+			List<UpdateQuery> updates = statsIds.isEmpty() ? List.of() : toStatsUpdates(statsIds);
+			// 통계를 찾지 못한 강의는 삭제된 강의이므로 아래에서 함께 지운다
+			Set<String> updateIds = updates.stream().map(UpdateQuery::getId).collect(Collectors.toSet());
+			statsIds.stream().filter(lectureId -> !updateIds.contains(String.valueOf(lectureId))).forEach(fullIds::add);
+			if (!updates.isEmpty()) {
+				LectureBulkIndexer.Result result = lectureBulkIndexer.update(updates, LECTURE_INDEX);
+				updated = result.indexed();
+				// 아직 색인되지 않은 강의처럼 부분 업데이트가 실패하면 문서 전체를 다시 색인한다
+				result.failures().keySet().forEach(id -> fullIds.add(Long.valueOf(id)));
+			}
+			List<LectureDocument> documents = fullIds.isEmpty() ? List.of() : lectureRepository.findIndexDtosByIdIn(fullIds).stream()
+				.map(LectureDocument::of)
+				.toList();
+			if (!documents.isEmpty()) {
+				LectureBulkIndexer.Result result = lectureBulkIndexer.index(documents, LECTURE_INDEX);
+				indexed = result.indexed();
+				failures.putAll(result.failures());
+			}
+			Set<String> foundIds = documents.stream().map(LectureDocument::getId).collect(Collectors.toSet());
+			List<String> missingIds = fullIds.stream()
+				.map(String::valueOf)
+				.filter(id -> !foundIds.contains(id))
+				.toList();
+			if (!missingIds.isEmpty()) {
+				LectureBulkIndexer.Result result = lectureBulkIndexer.delete(missingIds, LECTURE_INDEX);
+				deleted = missingIds.size() - result.failures().size();
+				failures.putAll(result.failures());
+			}
+			// 리뷰/북마크가 생길 때마다 들어오는 통계 부분 업데이트로는 검색 캐시를 비우지 않는다. 점수/북마크 수의 지연은 캐시 TTL 만큼 허용한다
+			if (indexed + deleted > 0) {
+				lectureSearchCache.bumpGeneration();
+			}
+			if (updated + indexed + deleted > 0) {
+				log.info("Relayed {} outbox entries: {} indexed, {} partially updated, {} deleted, {} failed in {} ms",
+					entries.size(), indexed, updated, deleted, failures.size(), (System.nanoTime() - start) / 1_000_000);
+			}
+
+			// 실패한 강의의 기록은 실패 횟수를 올려 남겨 두고, maxAttempts 번째 실패한 기록은 버려서 배치 앞을 막지 않게 한다
+			List<Long> doneIds = new ArrayList<>();
+			List<Long> retryIds = new ArrayList<>();
+			for (LectureOutbox entry : entries) {
+				String lectureId = String.valueOf(entry.getLectureId());
+				if (!failures.containsKey(lectureId)) {
+					doneIds.add(entry.getId());
+				} else if (entry.getAttempts() + 1 >= maxAttempts) {
+					log.error("Dropping outbox entry {} of lecture {} after {} failed attempts: {}",
+						entry.getId(), lectureId, entry.getAttempts() + 1, failures.get(lectureId));
+					doneIds.add(entry.getId());
+				} else {
+					retryIds.add(entry.getId());
+				}
+			}
+			lectureOutboxRepository.deleteAllByIdInBatch(doneIds);
+			if (!retryIds.isEmpty()) {
+				lectureOutboxRepository.incrementAttempts(retryIds);
+			}
+
+			if (!retryIds.isEmpty() || entries.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private List<UpdateQuery> toStatsUpdates(Set<Long> lectureIds) {
+		return lectureRepository.findStatsByIdIn(lectureIds).stream()
+			.map(stats -> UpdateQuery.builder(String.valueOf(stats.id()))
+				.withDocument(Document.create()
+					.append("reviewCnt", stats.reviewCnt())
+					.append("popularity", stats.popularity())
+					.append("bookmarkCnt", stats.bookmarkCnt()))
+				.build())
+			.toList();
+	}
+}
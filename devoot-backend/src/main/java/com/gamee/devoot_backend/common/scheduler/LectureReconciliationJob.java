@@ -0,0 +1,255 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.dto.LectureFingerprintDto;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MariaDB 와 lectures 인덱스의 (id, fingerprint) 를 id 순서로 나란히 읽으며 비교한다.
+ * 양쪽 모두 chunk 단위로 읽으므로 메모리 사용량은 강의 수와 무관하다.
+ * <ul>
+ *     <li>DB 에만 있거나 fingerprint(updatedAt, 리뷰 통계, 북마크 수, hash) 가 다르면 다시 색인한다</li>
+ *     <li>ES 에만 있으면(orphan) 모아서 bulk 로 삭제한다</li>
+ *     <li>lectureId 가 없는 예전 문서도 orphan 으로 보고 비교 전에 지운다. DB 에 남아 있는 강의라면 누락으로 잡혀 다시 색인된다</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class LectureReconciliationJob {
+	private static final String JOB_NAME = "lecture-es-reconcile";
+	private static final IndexCoordinates LECTURE_INDEX = IndexCoordinates.of("lectures");
+	private static final Duration PIT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+	@Autowired
+	private LectureRepository lectureRepository;
+	@Autowired
+	private ElasticsearchOperations elasticsearchOperations;
+	@Autowired
+	private LectureBulkIndexer lectureBulkIndexer;
+	@Autowired
+	private LectureSearchCache lectureSearchCache;
+	@Autowired
+	private ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${lecture.reconcile.chunk-size:1000}")
+	private int chunkSize;
+
+	@Scheduled(cron = "${lecture.reconcile.cron:0 30 4 * * *}")
+	public void reconcileLectures() {
+		exclusiveJobRunner.run(JOB_NAME, Duration.ofHours(2), Duration.ofMinutes(1), this::reconcile);
+	}
+
+	void reconcile() {
+		long start = System.nanoTime();
+		long legacyDeleted = deleteWithoutLectureId();
+		EsFingerprintCursor esCursor = new EsFingerprintCursor(elasticsearchOperations.openPointInTime(LECTURE_INDEX, PIT_KEEP_ALIVE));
+		try {
+			Result result = merge(new DbFingerprintCursor(), esCursor);
+			if (result.reindexed() > 0 || result.deleted() > 0 || legacyDeleted > 0) {
+				lectureSearchCache.bumpGeneration();
+			}
+			log.info("Reconciled {} db rows with {} documents in {} ms: {} missing, {} mismatched, {} orphans ({} deleted), {} without lectureId deleted, {} reindexed",
+				result.dbRows(), result.documents(), (System.nanoTime() - start) / 1_000_000,
+				result.missing(), result.mismatched(), result.orphans(), result.deleted(), legacyDeleted, result.reindexed());
+		} finally {
+			esCursor.close();
+		}
+	}
+
+	Result merge(FingerprintCursor db, FingerprintCursor es) {
+		List<Long> toReindex = new ArrayList<>();
+		List<String> toDelete = new ArrayList<>();
+		long dbRows = 0;
+		long documents = 0;
+		long missing = 0;
+		long mismatched = 0;
+		long orphans = 0;
+		long deleted = 0;
+		long reindexed = 0;
+
+		LectureFingerprintDto dbRow = db.next();
+		LectureFingerprintDto document = es.next();
+		while (dbRow != null || document != null) {
+			if (document == null || (dbRow != null && dbRow.id() < document.id())) {
+				missing++;
+				dbRows++;
+				toReindex.add(dbRow.id());
+				dbRow = db.next();
+			} else if (dbRow == null || document.id() < dbRow.id()) {
+				orphans++;
+				documents++;
+				toDelete.add(String.valueOf(document.id()));
+				document = es.next();
+			} else {
+				if (!Objects.equals(dbRow.fingerprint(), document.fingerprint())) {
+					mismatched++;
+					toReindex.add(dbRow.id());
+				}
+				dbRows++;
+				documents++;
+				dbRow = db.next();
+				document = es.next();
+			}
+
+			if (toReindex.size() >= chunkSize) {
+				reindexed += reindex(toReindex);
+				toReindex.clear();
+			}
+			if (toDelete.size() >= chunkSize) {
+				deleted += delete(toDelete);
+				toDelete.clear();
+			}
+		}
+		reindexed += reindex(toReindex);
+		deleted += delete(toDelete);
+		return new Result(dbRows, documents, missing, mismatched, orphans, deleted, reindexed);
+	}
+
+	private long reindex(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		List<LectureDocument> documents = lectureRepository.findIndexDtosByIdIn(ids).stream()
+			.map(LectureDocument::of)
+			.toList();
+		return documents.isEmpty() ? 0 : lectureBulkIndexer.index(documents, LECTURE_INDEX).indexed();
+	}
+
+	// ES 가 실제로 지운 문서 수만 센다. 실패한 id 는 다음 실행에서 다시 orphan 으로 잡힌다
+	private long delete(List<String> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		LectureBulkIndexer.Result result = lectureBulkIndexer.delete(ids, LECTURE_INDEX);
+		if (!result.failures().isEmpty()) {
+			log.warn("Failed to delete {} orphan documents", result.failures().size());
+		}
+		return result.indexed();
+	}
+
+	private long deleteWithoutLectureId() {
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(q -> q.bool(b -> b.mustNot(m -> m.exists(e -> e.field("lectureId")))))
+			.build();
+		try {
+			return elasticsearchOperations.delete(DeleteQuery.builder(query).build(), LectureDocument.class, LECTURE_INDEX).getDeleted();
+		} catch (Exception e) {
+			log.warn("Failed to delete documents without lectureId", e);
+			return 0;
+		}
+	}
+
+	/**
+	 * id 오름차순으로 (id, fingerprint) 를 하나씩 돌려준다. 끝나면 null.
+	 */
+	interface FingerprintCursor {
+		LectureFingerprintDto next();
+	}
+
+	record Result(long dbRows, long documents, long missing, long mismatched, long orphans, long deleted, long reindexed) {
+	}
+
+	private class DbFingerprintCursor implements FingerprintCursor {
+		private Iterator<LectureFingerprintDto> chunk = Collections.emptyIterator();
+		private long lastId = 0;
+		private boolean lastChunk = false;
+
+		@Override
+		public LectureFingerprintDto next() {
+			if (!chunk.hasNext() && !lastChunk) {
+				List<LectureFingerprintDto> rows = lectureRepository.findFingerprintsAfter(lastId, Limit.of(chunkSize));
+				lastChunk = rows.size() < chunkSize;
+				chunk = rows.iterator();
+			}
+			if (!chunk.hasNext()) {
+				return null;
+			}
+			LectureFingerprintDto row = chunk.next();
+			lastId = row.id();
+			return row;
+		}
+	}
+
+	/**
+	 * lectureId 오름차순으로 PIT + search_after 로 읽는다.
+	 * lectureId 가 없는 예전 문서는 reconcile() 이 먼저 지우므로 여기서는 걸러 낸다.
+	 */
+	private class EsFingerprintCursor implements FingerprintCursor {
+		private String pitId;
+		private List<Object> searchAfter;
+		private Iterator<SearchHit<LectureDocument>> chunk = Collections.emptyIterator();
+		private boolean lastChunk = false;
+
+		EsFingerprintCursor(String pitId) {
+			this.pitId = pitId;
+		}
+
+		@Override
+		public LectureFingerprintDto next() {
+			if (!chunk.hasNext() && !lastChunk) {
+				fetch();
+			}
+			if (!chunk.hasNext()) {
+				return null;
+			}
+			SearchHit<LectureDocument> hit = chunk.next();
+			searchAfter = hit.getSortValues();
+			return LectureFingerprintDto.of(hit.getContent());
+		}
+
+		private void fetch() {
+			NativeQueryBuilder builder = NativeQuery.builder()
+				.withQuery(q -> q.exists(e -> e.field("lectureId")))
+				.withSort(Sort.by(Sort.Direction.ASC, "lectureId"))
+				.withPageable(PageRequest.of(0, chunkSize))
+				.withSourceFilter(new FetchSourceFilterBuilder().withIncludes("lectureId", "updatedAt", "reviewCnt", "popularity", "bookmarkCnt", "hash").build())
+				.withTrackTotalHits(false)
+				.withPointInTime(new PointInTime(pitId, PIT_KEEP_ALIVE));
+			if (searchAfter != null) {
+				builder.withSearchAfter(searchAfter);
+			}
+			SearchHits<LectureDocument> hits = elasticsearchOperations.search(builder.build(), LectureDocument.class);
+			if (hits.getPointInTimeId() != null) {
+				pitId = hits.getPointInTimeId();
+			}
+			lastChunk = hits.getSearchHits().size() < chunkSize;
+			chunk = hits.getSearchHits().iterator();
+		}
+
+		void close() {
+			try {
+				elasticsearchOperations.closePointInTime(pitId);
+			} catch (Exception e) {
+				log.warn("Failed to close point in time", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.gamee.devoot_backend.common.Util;
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.exception.LectureReindexConflictException;
+import com.gamee.devoot_backend.lecture.exception.LectureReindexFailedException;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lectures 별칭(alias) 뒤의 인덱스를 무중단으로 다시 만든다.
+ * <ol>
+ *     <li>es-setting.json 으로 lectures_v{시각} 인덱스를 만들고, id 구간을 나눈 여러 reader 로 MariaDB 에서 읽어 bulk 색인한다</li>
+ *     <li>재색인 중 바뀐 강의(updatedAt 기준)를 한 번 더 색인한 뒤 별칭을 한 번의 요청으로 옮긴다</li>
+ *     <li>이전 인덱스는 지우지 않고 남겨두어 rollback() 으로 되돌릴 수 있다</li>
+ * </ol>
+ * 재색인은 별도 스레드에서 돌고, 요청에는 바로 상태(status())를 돌려준다.
+ * 재색인 동안에는 outbox relay 의 실행권을 연장하며 잡고 있어서 outbox 변경(통계만 바뀐 기록 포함)은 쌓여 있다가 별칭이 옮겨진 뒤 새 인덱스에 반영된다.
+ * 별칭을 옮기기 전에 실패하면 만들던 인덱스를 지운다.
+ * 처음 한 번은 lectures 가 실제 인덱스라서 별칭을 걸 수 없다. 이 경우 lectures 를 lectures_v0 으로 옮기고 별칭을 만드는 작업을 먼저 해야 한다.
+ */
+@Service
+@Slf4j
+public class LectureReindexJob {
+	private static final String ALIAS = "lectures";
+	private static final String INDEX_PREFIX = ALIAS + "_v";
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	// DB 와 애플리케이션 시계 차이로 updatedAt 이 재색인 시작 시각보다 조금 이르게 찍힐 수 있다
+	private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+	@Autowired
+	private LectureRepository lectureRepository;
+	@Autowired
+	private ElasticsearchOperations elasticsearchOperations;
+	@Autowired
+	private ElasticsearchClient elasticsearchClient;
+	@Autowired
+	private LectureBulkIndexer lectureBulkIndexer;
+	@Autowired
+	private LectureSearchCache lectureSearchCache;
+	@Autowired
+	private ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${lecture.reindex.parallelism:4}")
+	private int parallelism;
+	@Value("${lecture.reindex.chunk-size:1000}")
+	private int chunkSize;
+	@Value("${lecture.reindex.lease:5m}")
+	private Duration reindexLease;
+
+	private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "lecture-reindex");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicReference<Status> status = new AtomicReference<>(Status.IDLE);
+
+	/**
+	 * 재색인을 시작하고 RUNNING 상태를 돌려준다. 진행 상황과 결과는 status() 로 확인한다.
+	 */
+	public Status reindex() {
+		Status started = new Status(State.RUNNING, LocalDateTime.now(), null, null, null);
+		Status previous = status.getAndSet(started);
+		boolean acquired = exclusiveJobRunner.runAsync(LectureOutboxRelay.LEASE_NAME, reindexLease, rebuildExecutor, () -> status.set(run(started)));
+		if (!acquired) {
+			status.compareAndSet(started, previous);
+			throw new LectureReindexConflictException("Outbox relay or another reindex is running. Try again shortly.");
+		}
+		return started;
+	}
+
+	public Status status() {
+		return status.get();
+	}
+
+	private Status run(Status started) {
+		try {
+			Result result = rebuild();
+			return new Status(State.SUCCEEDED, started.startedAt(), LocalDateTime.now(), result, result.catchUpError());
+		} catch (Exception e) {
+			log.error("Failed to rebuild {}", ALIAS, e);
+			return new Status(State.FAILED, started.startedAt(), LocalDateTime.now(), null, e.getMessage());
+		}
+	}
+
+	/**
+	 * 별칭을 이전 버전 인덱스로 되돌린다. 되돌린 뒤의 변경 차이는 대사 작업(LectureReconciliationJob)이 메운다.
+	 */
+	public List<String> rollback(String index) {
+		if (index == null || !index.startsWith(INDEX_PREFIX) || !elasticsearchOperations.indexOps(IndexCoordinates.of(index)).exists()) {
+			throw new LectureReindexConflictException("Index does not exist: " + index);
+		}
+		List<String> previous = swapAlias(index);
+		lectureSearchCache.bumpGeneration();
+		log.info("Rolled back alias {} from {} to {}", ALIAS, previous, index);
+		return previous;
+	}
+
+	Result rebuild() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		String indexName = INDEX_PREFIX + startedAt.format(VERSION_FORMAT);
+		IndexCoordinates index = IndexCoordinates.of(indexName);
+		checkAlias();
+
+		createIndex(index);
+		log.info("Rebuilding {} into {} with {} readers", ALIAS, indexName, parallelism);
+
+		long start = System.nanoTime();
+		Load load;
+		int caughtUp;
+		long loadNanos;
+		List<String> previous;
+		LocalDateTime catchUpFrom = startedAt.minus(CATCH_UP_MARGIN);
+		try {
+			load = load(index);
+			if (load.failed() > 0) {
+				throw new LectureReindexFailedException(load.failed() + " documents failed to index into " + indexName);
+			}
+			enableRefresh(indexName);
+			caughtUp = catchUp(index, catchUpFrom);
+			loadNanos = System.nanoTime() - start;
+			previous = swapAlias(indexName);
+		} catch (RuntimeException e) {
+			// 별칭이 옮겨지기 전이므로 검색에 쓰이지 않는 인덱스다
+			deleteIndex(index);
+			throw e;
+		}
+		// 색인이 끝난 뒤 별칭이 옮겨지기 전까지 바뀐 강의. 별칭은 이미 옮겨졌으므로 실패해도 재색인은 성공으로 두고,
+		// 빠진 변경은 outbox relay 와 대사 작업이 메운다
+		String catchUpError = null;
+		try {
+			caughtUp += catchUp(index, catchUpFrom);
+		} catch (RuntimeException e) {
+			log.error("Alias {} moved to {} but the final catch-up failed", ALIAS, indexName, e);
+			catchUpError = "Final catch-up failed: " + e.getMessage();
+		}
+		lectureSearchCache.bumpGeneration();
+
+		Result result = new Result(indexName, previous, load.indexed(), caughtUp, loadNanos / 1_000_000,
+			loadNanos == 0 ? 0 : load.indexed() * 1_000_000_000.0 / loadNanos, catchUpError);
+		log.info("Rebuilt {} -> {} with {} documents (+{} caught up) in {} ms, {} docs/s. Previous: {}",
+			ALIAS, indexName, result.documents(), caughtUp, result.elapsedMillis(), String.format("%.1f", result.docsPerSecond()), previous);
+		return result;
+	}
+
+	private void checkAlias() {
+		if (elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).exists() && aliasedIndices().isEmpty()) {
+			log.error("{} is a concrete index. Move it to {}0 and create the alias before rebuilding.", ALIAS, INDEX_PREFIX);
+			throw new LectureReindexConflictException(ALIAS + " is a concrete index, not an alias.");
+		}
+	}
+
+	/**
+	 * 색인하는 동안에는 refresh 를 끄고, 끝난 뒤 켜면서 한 번에 refresh 한다.
+	 */
+	private void createIndex(IndexCoordinates index) {
+		Map<String, Object> body;
+		try (InputStream in = new ClassPathResource("es-setting.json").getInputStream()) {
+			body = Util.objectMapper.readValue(in, new TypeReference<>() {
+			});
+		} catch (IOException e) {
+			throw new LectureReindexFailedException("Cannot read es-setting.json: " + e.getMessage());
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> settings = new LinkedHashMap<>((Map<String, Object>)body.get("settings"));
+		settings.put("refresh_interval", "-1");
+		@SuppressWarnings("unchecked")
+		Document mapping = Document.from((Map<String, Object>)body.get("mappings"));
+
+		if (!elasticsearchOperations.indexOps(index).create(settings, mapping)) {
+			throw new LectureReindexFailedException("Cannot create index " + index.getIndexName());
+		}
+	}
+
+	private void deleteIndex(IndexCoordinates index) {
+		try {
+			elasticsearchOperations.indexOps(index).delete();
+		} catch (Exception e) {
+			log.error("Failed to delete unfinished index {}. Delete it manually.", index.getIndexName(), e);
+		}
+	}
+
+	private void enableRefresh(String indexName) {
+		try {
+			elasticsearchClient.indices().putSettings(request -> request
+				.index(indexName)
+				.settings(settings -> settings.refreshInterval(time -> time.time("1s"))));
+		} catch (IOException e) {
+			throw new LectureReindexFailedException("Cannot restore refresh interval of " + indexName + ": " + e.getMessage());
+		}
+		elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+	}
+
+	/**
+	 * [0, maxId] 를 parallelism 개 구간으로 나누어 구간마다 하나의 reader 가 읽고 색인한다.
+	 */
+	Load load(IndexCoordinates index) {
+		long maxId = lectureRepository.findMaxId();
+		int readers = (int)Math.max(1, Math.min(parallelism, maxId));
+		long sliceSize = Math.ceilDiv(maxId, readers);
+
+		List<Future<Load>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(readers)) {
+			for (int i = 0; i < readers; i++) {
+				long from = i * sliceSize;
+				long to = Math.min(maxId, from + sliceSize);
+				futures.add(executor.submit(() -> loadSlice(index, from, to)));
+			}
+
+			Load total = new Load(0, 0);
+			for (Future<Load> future : futures) {
+				total = total.plus(future.get());
+			}
+			return total;
+		} catch (ExecutionException e) {
+			throw new LectureReindexFailedException("Reader failed: " + e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LectureReindexFailedException("Interrupted while rebuilding " + index.getIndexName());
+		}
+	}
+
+	private Load loadSlice(IndexCoordinates index, long afterId, long toId) {
+		Load load = new Load(0, 0);
+		long lastId = afterId;
+		while (true) {
+			List<LectureIndexDto> lectures = lectureRepository.findIndexDtosInRange(lastId, toId, Limit.of(chunkSize));
+			if (lectures.isEmpty()) {
+				return load;
+			}
+			LectureBulkIndexer.Result result = lectureBulkIndexer.index(lectures.stream().map(LectureDocument::of).toList(), index);
+			load = load.plus(new Load(result.indexed(), result.failures().size()));
+			lastId = lectures.get(lectures.size() - 1).id();
+			if (lectures.size() < chunkSize) {
+				return load;
+			}
+		}
+	}
+
+	private int catchUp(IndexCoordinates index, LocalDateTime since) {
+		int indexed = 0;
+		LocalDateTime lastUpdatedAt = since;
+		long lastId = 0;
+		while (true) {
+			List<LectureIndexDto> lectures = lectureRepository.findChangedAfter(lastUpdatedAt, lastId, LocalDateTime.now(), Limit.of(chunkSize));
+			if (lectures.isEmpty()) {
+				return indexed;
+			}
+			indexed += lectureBulkIndexer.index(lectures.stream().map(LectureDocument::of).toList(), index).indexed();
+			LectureIndexDto last = lectures.get(lectures.size() - 1);
+			lastUpdatedAt = last.updatedAt();
+			lastId = last.id();
+			if (lectures.size() < chunkSize) {
+				return indexed;
+			}
+		}
+	}
+
+	/**
+	 * 별칭이 가리키던 인덱스에서 빼고 새 인덱스에 거는 동작을 한 요청으로 보내므로, 검색이 별칭을 잃는 순간이 없다.
+	 */
+	private List<String> swapAlias(String indexName) {
+		List<String> previous = aliasedIndices().stream()
+			.filter(name -> !name.equals(indexName))
+			.sorted()
+			.toList();
+
+		List<AliasAction> actions = new ArrayList<>();
+		if (!previous.isEmpty()) {
+			actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+				.withIndices(previous.toArray(String[]::new))
+				.withAliases(ALIAS)
+				.build()));
+		}
+		actions.add(new AliasAction.Add(AliasActionParameters.builder()
+			.withIndices(indexName)
+			.withAliases(ALIAS)
+			.build()));
+		if (!elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).alias(new AliasActions(actions.toArray(AliasAction[]::new)))) {
+			throw new LectureReindexFailedException("Cannot move alias " + ALIAS + " to " + indexName);
+		}
+		return previous;
+	}
+
+	private Set<String> aliasedIndices() {
+		try {
+			return elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).getAliases(ALIAS).keySet();
+		} catch (Exception e) {
+			// 별칭이 없으면 ES 가 404 로 응답한다
+			log.debug("Alias {} not found: {}", ALIAS, e.getMessage());
+			return Set.of();
+		}
+	}
+
+	record Load(int indexed, int failed) {
+		Load plus(Load other) {
+			return new Load(indexed + other.indexed, failed + other.failed);
+		}
+	}
+
+	public enum State {
+		IDLE, RUNNING, SUCCEEDED, FAILED
+	}
+
+	/**
+	 * 마지막으로 시작한 재색인의 상태. 성공하면 result, 실패하면 error 가 채워진다.
+	 * 별칭을 옮긴 뒤의 catch-up 만 실패했으면 SUCCEEDED 이면서 error 에 그 내용이 남는다.
+	 */
+	public record Status(State state, LocalDateTime startedAt, LocalDateTime finishedAt, Result result, String error) {
+		static final Status IDLE = new Status(State.IDLE, null, null, null, null);
+	}
+
+	public record Result(
+		String index,
+		List<String> previousIndices,
+		int documents,
+		int caughtUp,
+		long elapsedMillis,
+		double docsPerSecond,
+		String catchUpError
+	) {
+	}
+}
@@ -1,20 +1,29 @@
 package com.gamee.devoot_backend.common.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.gamee.devoot_backend.lecture.document.LectureDocument;
-import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.entity.SyncWatermark;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.repository.SyncWatermarkRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureDetailCache;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,66 +31,126 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @EnableScheduling
 public class LectureSyncScheduler {
+	private static final String WATERMARK_NAME = "lecture-es-sync";
+	private static final IndexCoordinates LECTURE_INDEX = IndexCoordinates.of("lectures");
+
 	@Autowired
 	private LectureRepository lectureRepository;
 	@Autowired
-	private ElasticsearchOperations elasticsearchOperations;
+	private LectureBulkIndexer lectureBulkIndexer;
+	@Autowired
+	private LectureSearchCache lectureSearchCache;
+	@Autowired
+	private LectureDetailCache lectureDetailCache;
+	@Autowired
+	private SyncWatermarkRepository syncWatermarkRepository;
+
+	@Autowired
+	private ExclusiveJobRunner exclusiveJobRunner;
+
+	@Value("${lecture.sync.chunk-size:1000}")
+	private int chunkSize;
+	@Value("${lecture.sync.lease:10m}")
+	private Duration syncLease;
+	@Value("${lecture.sync.safety-lag:5s}")
+	private Duration safetyLag;
+	@Value("${lecture.sync.max-attempts:5}")
+	private int maxAttempts;
 
-	private LocalDateTime lastSyncTime = LocalDateTime.now();
+	private final ExecutorService syncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "lecture-sync");
+		thread.setDaemon(true);
+		return thread;
+	});
 
+	/**
+	 * 워터마크 이후 변경된 강의를 chunk 단위로 읽어 색인한다. 다음 chunk 는 앞 chunk 의 bulk 색인이 끝난 뒤에 읽는다.
+	 * 워터마크는 bulk 색인이 성공한 행까지만 전진하므로, 재시작하거나 일부가 실패해도 다음 실행에서 이어서 처리된다.
+	 * 같은 행이 maxAttempts 번 연달아 실패하면 로그로 남기고 건너뛴다.
+	 * 늦게 커밋되는 트랜잭션의 행을 놓치지 않도록 최근 safetyLag 안에 바뀐 행은 다음 실행으로 미룬다.
+	 * 첫 배포처럼 워터마크가 처음부터 시작하면 전체 동기화가 syncLease 보다 오래 걸릴 수 있으므로, 실행 중에는 lease 를 계속 연장해
+	 * 다른 인스턴스가 같은 워터마크로 겹쳐 실행하며 워터마크를 되돌리지 않게 한다.
+	 */
 	@Scheduled(cron = "0 0/5 * * *  ?")
 	public void syncLecturesToElasticsearch() {
-		log.info("Starting sync. Last sync time: {}", lastSyncTime);
-
-		List<Lecture> changedLectures = lectureRepository.findByUpdatedAtAfter(lastSyncTime);
-		changedLectures.forEach(lecture -> log.debug("Changed lecture: {}", lecture));
-		//log.info("Found {} changed lectures", changedLectures.size());
-
-		lastSyncTime = LocalDateTime.now();
-
-		List<LectureDocument> documents = changedLectures.stream()
-			.map(this::convertToDocument)
-			.toList();
-
-		if (!documents.isEmpty()) {
-			IndexCoordinates index = IndexCoordinates.of("lectures");
-			documents.forEach(document -> {
-				elasticsearchOperations.save(document, index);
-			});
-			//log.info("Synced {} documents to Elasticsearch", documents.size());
-			log.info("Synced.");
-		} else {
+		exclusiveJobRunner.runAsync(WATERMARK_NAME, syncLease, syncExecutor, this::sync);
+	}
+
+	void sync() {
+		SyncWatermark watermark = syncWatermarkRepository.findById(WATERMARK_NAME)
+			.orElseGet(() -> SyncWatermark.initial(WATERMARK_NAME));
+		log.info("Starting sync. Watermark: ({}, {})", watermark.getLastUpdatedAt(), watermark.getLastId());
+
+		long start = System.nanoTime();
+		LocalDateTime until = LocalDateTime.now().minus(safetyLag);
+		int indexed = 0;
+		int failed = 0;
+		while (true) {
+			List<LectureIndexDto> changedLectures = lectureRepository.findChangedAfter(
+				watermark.getLastUpdatedAt(), watermark.getLastId(), until, Limit.of(chunkSize));
+			if (changedLectures.isEmpty()) {
+				break;
+			}
+			lectureDetailCache.invalidateAll(changedLectures.stream().map(LectureIndexDto::id).toList());
+
+			List<LectureDocument> documents = changedLectures.stream()
+				.map(LectureDocument::of)
+				.toList();
+			LectureBulkIndexer.Result result = lectureBulkIndexer.index(documents, LECTURE_INDEX);
+			indexed += result.indexed();
+			failed += result.failures().size();
+
+			Set<String> failedIds = new HashSet<>(result.failures().keySet());
+			LectureIndexDto firstFailed = firstFailed(changedLectures, failedIds);
+			if (firstFailed == null) {
+				watermark.clearFailure();
+			} else if (watermark.recordFailure(firstFailed.id()) >= maxAttempts) {
+				String id = String.valueOf(firstFailed.id());
+				log.error("Skipping lecture {} after {} failed sync attempts: {}",
+					id, watermark.getFailedAttempts(), result.failures().get(id));
+				failedIds.remove(id);
+				watermark.clearFailure();
+			}
+
+			LectureIndexDto lastSynced = lastBeforeFailure(changedLectures, failedIds);
+			if (lastSynced != null) {
+				watermark.advance(lastSynced.updatedAt(), lastSynced.id());
+			}
+			syncWatermarkRepository.save(watermark);
+			if (!failedIds.isEmpty() || changedLectures.size() < chunkSize) {
+				break;
+			}
+		}
+
+		if (indexed > 0) {
+			lectureSearchCache.bumpGeneration();
+		}
+		if (indexed == 0 && failed == 0) {
 			log.info("No documents to sync.");
+			return;
 		}
+		long elapsedNanos = System.nanoTime() - start;
+		log.info("Synced {} documents ({} failed) in {} ms, {} docs/s. Watermark: ({}, {})",
+			indexed, failed, elapsedNanos / 1_000_000, String.format("%.1f", indexed * 1_000_000_000.0 / elapsedNanos),
+			watermark.getLastUpdatedAt(), watermark.getLastId());
+	}
+
+	private LectureIndexDto firstFailed(List<LectureIndexDto> lectures, Set<String> failedIds) {
+		return lectures.stream()
+			.filter(lecture -> failedIds.contains(String.valueOf(lecture.id())))
+			.findFirst()
+			.orElse(null);
 	}
 
-	private LectureDocument convertToDocument(Lecture lecture) {
-		float rating = (lecture.getReviewCnt() != null && lecture.getReviewCnt() > 0)
-			? (lecture.getRatingSum() / lecture.getReviewCnt())
-			: 0f;
-
-		List<String> tagsList = Arrays.stream(lecture.getTags().split(","))
-			.map(String::trim)
-			.map(String::toLowerCase)
-			.collect(Collectors.toList());
-
-		return LectureDocument.builder()
-			.id(String.valueOf(lecture.getId()))
-			.categoryName(lecture.getCategory())
-			.name(lecture.getName())
-			.lecturer(lecture.getLecturer())
-			.tags(tagsList)
-			.reviewCnt(lecture.getReviewCnt())
-			.currentPrice(lecture.getCurrentPrice())
-			.originalPrice(lecture.getOriginalPrice())
-			.imageUrl(lecture.getImageUrl())
-			.curriculum(lecture.getCurriculum())
-			.sourceUrl(lecture.getSourceUrl())
-			.sourceName(lecture.getSourceName())
-			.createdAt(lecture.getCreatedAt())
-			.updatedAt(lecture.getUpdatedAt())
-			.hash(lecture.getHash())
-			.popularity(rating)
-			.build();
+	// 키셋 순서상 첫 번째 실패 항목 바로 앞까지가 워터마크를 옮길 수 있는 범위다
+	private LectureIndexDto lastBeforeFailure(List<LectureIndexDto> lectures, Set<String> failedIds) {
+		LectureIndexDto last = null;
+		for (LectureIndexDto lecture : lectures) {
+			if (failedIds.contains(String.valueOf(lecture.id()))) {
+				break;
+			}
+			last = lecture;
+		}
+		return last;
 	}
 }
@@ -0,0 +1,33 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주기 작업 실행권. leaseUntil 이 지나기 전까지는 owner 인스턴스만 작업을 실행한다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "schedulerlease")
+public class SchedulerLease {
+	@Id
+	private String name;
+	@Column(nullable = false)
+	private String owner;
+	@Column(nullable = false)
+	private LocalDateTime leaseUntil;
+	@Column(nullable = false)
+	private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,46 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+	/**
+	 * 만료되었거나 이미 자신이 가진 lease 만 가져간다. 갱신된 행 수가 1 이면 획득한 것이다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE SchedulerLease l
+		SET l.owner = :owner,
+			l.leaseUntil = :leaseUntil,
+			l.acquiredAt = :now
+		WHERE l.name = :name
+		AND (l.leaseUntil <= :now OR l.owner = :owner)
+		""")
+	int tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+	/**
+	 * 처음 실행되는 작업의 행을 만든다. 이미 있으면 키 중복으로 실패한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		INSERT INTO SchedulerLease (name, owner, leaseUntil, acquiredAt)
+		VALUES (:name, :owner, :leaseUntil, :now)
+		""")
+	void insert(String name, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE SchedulerLease l
+		SET l.leaseUntil = :leaseUntil
+		WHERE l.name = :name
+		AND l.owner = :owner
+		""")
+	int release(String name, String owner, LocalDateTime leaseUntil);
+}
@@ -1,10 +1,22 @@
 package com.gamee.devoot_backend.lecture.controller;
 
+import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,14 +30,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.gamee.devoot_backend.common.enums.CategoryType;
 import com.gamee.devoot_backend.common.enums.SortType;
+import com.gamee.devoot_backend.common.exception.CommonErrorCode;
+import com.gamee.devoot_backend.common.exception.DevootException;
 import com.gamee.devoot_backend.common.exception.InvalidEnumException;
+import com.gamee.devoot_backend.common.pageutils.CursorPage;
 import com.gamee.devoot_backend.common.pageutils.CustomPage;
+import com.gamee.devoot_backend.lecture.dto.LectureBatchDetailDto;
 import com.gamee.devoot_backend.lecture.dto.LectureCreateDto;
 import com.gamee.devoot_backend.lecture.dto.LectureSearchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchFilter;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchSpec;
+import com.gamee.devoot_backend.lecture.dto.LectureSuggestDto;
 import com.gamee.devoot_backend.lecture.dto.LectureUpdateDto;
+import com.gamee.devoot_backend.lecture.dto.LectureVersionDto;
 import com.gamee.devoot_backend.lecture.dto.LectureWithBookmarkDetailDto;
 import com.gamee.devoot_backend.lecture.service.LectureService;
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
@@ -37,24 +58,48 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Validated
 public class LectureController {
+	// 캐시해 두되 쓸 때마다 ETag 로 다시 확인하게 한다. 사용자마다 다른 응답이라 공유 캐시에는 두지 않는다
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 	private final LectureService lectureService;
 
+	/**
+	 * 여러 강의를 한 번에 조회한다 (예: /api/lectures?ids=1,2,3). 요청한 순서대로 돌려주며 없는 강의는 빠진다.
+	 */
+	@GetMapping
+	public ResponseEntity<List<LectureBatchDetailDto>> getLectures(
+		@RequestParam @NotEmpty @Size(max = 50) List<@Positive Long> ids,
+		@AuthenticationPrincipal CustomUserDetails user
+	) {
+		return ResponseEntity.ok().body(lectureService.getLectures(ids, user));
+	}
+
+	/**
+	 * If-None-Match 가 현재 ETag 와 같으면 본문을 만들지 않고 304 를 돌려준다.
+	 */
 	@GetMapping("/{lectureId}")
 	public ResponseEntity<Map<String, Object>> getLectureDetail(@PathVariable(value = "lectureId") String lectureIdStr,
-		@AuthenticationPrincipal CustomUserDetails user) {
+		@AuthenticationPrincipal CustomUserDetails user, WebRequest request) {
+		LectureVersionDto version = lectureService.getLectureVersion(Long.parseLong(lectureIdStr));
+		if (request.checkNotModified(lectureService.getLectureDetailEtag(version, user))) {
+			return null;
+		}
 		Map<String, Object> resultMap = new HashMap<>();
-		LectureWithBookmarkDetailDto lectureWithBookmarkDetailDto = lectureService.getLectureWithBookmarkDetail(Long.parseLong(lectureIdStr), user);
+		LectureWithBookmarkDetailDto lectureWithBookmarkDetailDto = lectureService.getLectureWithBookmarkDetail(version, user);
 		resultMap.put("lectureDetail", lectureWithBookmarkDetailDto);
-		return ResponseEntity.status(HttpStatus.OK).body(resultMap);
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(resultMap);
 	}
 
 	@GetMapping("/{lectureId}/curriculum")
 	public ResponseEntity<Map<String, String>> getLectureCurriculum(@PathVariable(value = "lectureId") String lectureIdStr,
-		@AuthenticationPrincipal CustomUserDetails user) {
+		@AuthenticationPrincipal CustomUserDetails user, WebRequest request) {
+		LectureVersionDto version = lectureService.getLectureVersion(Long.parseLong(lectureIdStr));
+		long lastModified = version.updatedAt() == null ? -1 : version.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		if (request.checkNotModified(lectureService.getLectureCurriculumEtag(version), lastModified)) {
+			return null;
+		}
 		Map<String, String> resultMap = new HashMap<>();
-		LectureWithBookmarkDetailDto lectureWithBookmarkDetailDto = lectureService.getLectureWithBookmarkDetail(Long.parseLong(lectureIdStr), user);
-		resultMap.put("curriculum", lectureWithBookmarkDetailDto.curriculum());
-		return ResponseEntity.status(HttpStatus.OK).body(resultMap);
+		resultMap.put("curriculum", lectureService.getLectureCurriculum(version));
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(REVALIDATE).body(resultMap);
 	}
 
 	@PostMapping
@@ -69,15 +114,71 @@ public class LectureController {
 	@GetMapping("/search")
 	public ResponseEntity<?> search(
 		@RequestParam(defaultValue = "1") @Positive int page,
-		@RequestParam(defaultValue = "1") @Positive int size,
+		@RequestParam(defaultValue = "1") @Positive @Max(100) int size,
+		@RequestParam(required = false) String category,
+		@RequestParam(required = false) String tag,
+		@RequestParam(required = false) String sort,
+		@RequestParam(required = false) String query,
+		@RequestParam(required = false) @PositiveOrZero Integer minPrice,
+		@RequestParam(required = false) @PositiveOrZero Integer maxPrice,
+		@RequestParam(required = false) @DecimalMin("0") @DecimalMax("5") Float minRating
+	) {
+		validateSearchParams(category, sort);
+		LectureSearchFilter filter = toSearchFilter(minPrice, maxPrice, minRating);
+
+		CustomPage<LectureSearchDetailDto> lectures = lectureService.search(page, size, category, tag, sort, query, filter);
+		return ResponseEntity.ok().body(lectures);
+	}
+
+	/**
+	 * 무한 스크롤용 커서 검색. 첫 요청은 검색 조건으로, 이후 요청은 응답의 nextCursor 만으로 호출한다.
+	 */
+	@GetMapping("/search/cursor")
+	public ResponseEntity<?> searchWithCursor(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") @Positive @Max(100) int size,
 		@RequestParam(required = false) String category,
 		@RequestParam(required = false) String tag,
 		@RequestParam(required = false) String sort,
-		@RequestParam(required = false) String query
+		@RequestParam(required = false) String query,
+		@RequestParam(required = false) @PositiveOrZero Integer minPrice,
+		@RequestParam(required = false) @PositiveOrZero Integer maxPrice,
+		@RequestParam(required = false) @DecimalMin("0") @DecimalMax("5") Float minRating
+	) {
+		validateSearchParams(category, sort);
+		LectureSearchFilter filter = toSearchFilter(minPrice, maxPrice, minRating);
+
+		CursorPage<LectureSearchDetailDto> lectures = lectureService.searchWithCursor(cursor, size, category, tag, sort, query, filter);
+		return ResponseEntity.ok().body(lectures);
+	}
+
+	/**
+	 * 홈/카테고리 화면의 여러 줄을 한 번에 검색한다. 응답은 줄의 key 별 검색 결과이며 요청 순서를 유지한다.
+	 */
+	@PostMapping("/search/batch")
+	public ResponseEntity<Map<String, CustomPage<LectureSearchDetailDto>>> searchBatch(
+		@RequestBody @NotEmpty @Size(max = 10) List<@Valid LectureSearchSpec> rows
 	) {
+		Set<String> keys = new HashSet<>();
+		for (LectureSearchSpec row : rows) {
+			validateSearchParams(row.category(), row.sort());
+			if (!row.filter().isValid() || !keys.add(row.key())) {
+				throw new DevootException(CommonErrorCode.VALIDATION_FAILED);
+			}
+		}
+		return ResponseEntity.ok().body(lectureService.searchBatch(rows));
+	}
+
+	@GetMapping("/suggest")
+	public ResponseEntity<List<LectureSuggestDto>> suggest(
+		@RequestParam String query,
+		@RequestParam(defaultValue = "10") @Positive @Max(20) int size
+	) {
+		return ResponseEntity.ok().body(lectureService.suggest(query, size));
+	}
+
+	private void validateSearchParams(String category, String sort) {
 		try {
-			System.out.println("category " + category);
-			System.out.println("sort " + sort);
 			if (category != null) {
 				CategoryType.valueOf(category.replaceAll("[/ ]", ""));
 			}
@@ -87,9 +188,14 @@ public class LectureController {
 		} catch (IllegalArgumentException e) {
 			throw new InvalidEnumException();
 		}
+	}
 
-		CustomPage<LectureSearchDetailDto> lectures = lectureService.search(page, size, category, tag, sort, query);
-		return ResponseEntity.ok().body(lectures);
+	private LectureSearchFilter toSearchFilter(Integer minPrice, Integer maxPrice, Float minRating) {
+		LectureSearchFilter filter = LectureSearchFilter.of(minPrice, maxPrice, minRating);
+		if (!filter.isValid()) {
+			throw new DevootException(CommonErrorCode.VALIDATION_FAILED);
+		}
+		return filter;
 	}
 
 	@PatchMapping("/{lectureId}")
@@ -102,4 +208,22 @@ public class LectureController {
 		lectureService.updateLecture(userDetails, lectureId, dto);
 		return ResponseEntity.noContent().build();
 	}
+
+	@PostMapping("/reindex")
+	public ResponseEntity<?> reindex(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(lectureService.reindex(userDetails));
+	}
+
+	@GetMapping("/reindex")
+	public ResponseEntity<?> getReindexStatus(@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return ResponseEntity.ok().body(lectureService.getReindexStatus(userDetails));
+	}
+
+	@PostMapping("/reindex/rollback")
+	public ResponseEntity<?> rollbackIndex(
+		@AuthenticationPrincipal CustomUserDetails userDetails,
+		@RequestParam String index
+	) {
+		return ResponseEntity.ok().body(Map.of("previousIndices", lectureService.rollbackIndex(userDetails, index)));
+	}
 }
@@ -1,7 +1,9 @@
 package com.gamee.devoot_backend.lecture.document;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
@@ -10,6 +12,9 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.InnerField;
 import org.springframework.data.elasticsearch.annotations.MultiField;
 
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,6 +29,10 @@ public class LectureDocument {
 	@Id
 	private String id;
 
+	// id 는 keyword 라 문자열 순서로 정렬된다. DB 와 같은 숫자 순서가 필요할 때(대사 작업) 이 필드로 정렬한다
+	@Field(type = FieldType.Long)
+	private Long lectureId;
+
 	@Field(type = FieldType.Keyword)
 	private String categoryName;
 
@@ -32,7 +41,8 @@ public class LectureDocument {
 		otherFields = {
 			@InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "tag_normalizer"),
 			@InnerField(suffix = "en", type = FieldType.Text, analyzer = "english_analyzer"),
-			@InnerField(suffix = "mixed", type = FieldType.Text, analyzer = "mixed_analyzer")
+			@InnerField(suffix = "mixed", type = FieldType.Text, analyzer = "mixed_analyzer"),
+			@InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type, analyzer = "suggest_analyzer", searchAnalyzer = "suggest_search_analyzer")
 		}
 	)
 	private String name;
@@ -42,7 +52,8 @@ public class LectureDocument {
 		otherFields = {
 			@InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "tag_normalizer"),
 			@InnerField(suffix = "en", type = FieldType.Text, analyzer = "english_analyzer"),
-			@InnerField(suffix = "mixed", type = FieldType.Text, analyzer = "mixed_analyzer")
+			@InnerField(suffix = "mixed", type = FieldType.Text, analyzer = "mixed_analyzer"),
+			@InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type, analyzer = "suggest_analyzer", searchAnalyzer = "suggest_search_analyzer")
 		}
 	)
 	private String lecturer;
@@ -60,18 +71,13 @@ public class LectureDocument {
 	private Integer currentPrice;
 
 	// Non-indexed fields (index = false)
-	@Field(type = FieldType.Integer, index = false)
-	private Integer categoryId;
-
+	// curriculum 은 색인하지 않는다. 상세 화면에서 MariaDB 로 따로 읽는다
 	@Field(type = FieldType.Keyword, index = false)
 	private String imageUrl;
 
 	@Field(type = FieldType.Integer, index = false)
 	private Integer originalPrice;
 
-	@Field(type = FieldType.Keyword, index = false)
-	private String curriculum;
-
 	@Field(type = FieldType.Keyword, index = false)
 	private String sourceUrl;
 
@@ -92,4 +98,34 @@ public class LectureDocument {
 
 	@Field(type = FieldType.Float)
 	private Float popularity;
+
+	@Field(type = FieldType.Integer)
+	private Integer bookmarkCnt;
+
+	public static LectureDocument of(LectureIndexDto lecture) {
+		List<String> tagsList = Arrays.stream(lecture.tags().split(","))
+			.map(String::trim)
+			.map(String::toLowerCase)
+			.collect(Collectors.toList());
+
+		return LectureDocument.builder()
+			.id(String.valueOf(lecture.id()))
+			.lectureId(lecture.id())
+			.categoryName(lecture.category())
+			.name(lecture.name())
+			.lecturer(lecture.lecturer())
+			.tags(tagsList)
+			.reviewCnt(lecture.reviewCnt())
+			.currentPrice(lecture.currentPrice())
+			.originalPrice(lecture.originalPrice())
+			.imageUrl(lecture.imageUrl())
+			.sourceUrl(lecture.sourceUrl())
+			.sourceName(lecture.sourceName())
+			.createdAt(lecture.createdAt())
+			.updatedAt(lecture.updatedAt())
+			.hash(lecture.hash())
+			.popularity(Lecture.rating(lecture.reviewCnt(), lecture.ratingSum()))
+			.bookmarkCnt(lecture.bookmarkCnt())
+			.build();
+	}
 }
@@ -0,0 +1,44 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
+/**
+ * 여러 강의를 한 번에 보여 주는 화면(비교, 프로필 목록, 할 일 헤더)용. curriculum 없이 카드에 필요한 값만 담는다.
+ */
+public record LectureBatchDetailDto(
+	long id,
+	String category,
+	String tags,
+	String name,
+	String lecturer,
+	int currentPrice,
+	int originPrice,
+	String sourceName,
+	String sourceUrl,
+	String imageUrl,
+	float rating,
+	Integer reviewCnt,
+	long bookmarkCount,
+	boolean isBookmarked,
+	long bookmarkId
+) {
+	/**
+	 * LectureRepository.findBatchDetailsByIdIn 의 projection. 북마크 여부는 withBookmark 로 채운다.
+	 */
+	public LectureBatchDetailDto(long id, String category, String tags, String name, String lecturer, int currentPrice,
+		int originPrice, String sourceName, String sourceUrl, String imageUrl, Integer reviewCnt, Float ratingSum,
+		Integer bookmarkCnt) {
+		this(id, category, tags, name, lecturer, currentPrice, originPrice, sourceName, sourceUrl, imageUrl,
+			Lecture.rating(reviewCnt, ratingSum), reviewCnt, bookmarkCnt == null ? 0 : bookmarkCnt, false, -1);
+	}
+
+	/**
+	 * @param pendingBookmarkCnt 아직 DB 에 반영되지 않은 북마크 수 증감분
+	 * @param bookmarkId 조회한 사용자의 북마크 id, 북마크하지 않았으면 null
+	 */
+	public LectureBatchDetailDto withBookmark(int pendingBookmarkCnt, Long bookmarkId) {
+		return new LectureBatchDetailDto(id, category, tags, name, lecturer, currentPrice, originPrice, sourceName, sourceUrl,
+			imageUrl, rating, reviewCnt, Math.max(0, bookmarkCount + pendingBookmarkCnt), bookmarkId != null,
+			bookmarkId == null ? -1 : bookmarkId);
+	}
+}
@@ -0,0 +1,11 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+/**
+ * 저장된 북마크 수(bookmarkCnt)와 bookmark 테이블에서 센 실제 수
+ */
+public record LectureBookmarkCntDto(
+	long id,
+	Integer bookmarkCnt,
+	long actualCnt
+) {
+}
@@ -3,6 +3,7 @@ package com.gamee.devoot_backend.lecture.dto;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.gamee.devoot_backend.common.Util;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
 
 public record LectureCreateDto(
 	String category,
@@ -27,10 +28,13 @@ public record LectureCreateDto(
 			.sourceName(sourceName)
 			.sourceUrl(sourceUrl)
 			.imageUrl(imgUrl)
-			.curriculum(curriculum.toString())
 			.ratingSum(0f)
 			.reviewCnt(0)
 			.hash(Util.sha256(sourceUrl))
 			.build();
 	}
+
+	public LectureCurriculum toCurriculum(long lectureId) {
+		return new LectureCurriculum(lectureId, curriculum.toString());
+	}
 }
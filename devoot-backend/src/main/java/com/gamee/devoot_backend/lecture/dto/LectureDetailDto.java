@@ -20,7 +20,7 @@ public record LectureDetailDto(
 	String imgUrl,
 	JsonNode curriculum
 ) {
-	public static LectureDetailDto of(Lecture lecture) {
+	public static LectureDetailDto of(Lecture lecture, String curriculum) {
 		return LectureDetailDto.builder()
 			.id(lecture.getId())
 			.category(lecture.getCategory())
@@ -32,7 +32,7 @@ public record LectureDetailDto(
 			.sourceName(lecture.getSourceName())
 			.sourceUrl(lecture.getSourceUrl())
 			.imgUrl(lecture.getImageUrl())
-			.curriculum(Util.parseToJson(lecture.getCurriculum()))
+			.curriculum(Util.parseToJson(curriculum))
 			.build();
 	}
 }
@@ -0,0 +1,39 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
+/**
+ * 대사(reconciliation) 작업에서 MariaDB 와 ES 양쪽을 비교할 때 쓰는 (id, fingerprint) 쌍.
+ * fingerprint 는 문서 내용이 바뀌면 함께 바뀌는 값(updatedAt, 리뷰 통계, 북마크 수, hash)을 이어 붙인 것이다.
+ * hash 는 sourceUrl 의 해시라 내용이 바뀌어도 그대로이므로 그것만으로는 어긋남을 찾을 수 없다.
+ */
+public record LectureFingerprintDto(
+	long id,
+	String fingerprint
+) {
+	/**
+	 * DB 쪽. popularity 는 LectureDocument.of 와 같은 계산으로 만든다.
+	 */
+	public LectureFingerprintDto(long id, LocalDateTime updatedAt, Integer reviewCnt, Float ratingSum, Integer bookmarkCnt, String hash) {
+		this(id, fingerprint(updatedAt, reviewCnt, Lecture.rating(reviewCnt, ratingSum), bookmarkCnt, hash));
+	}
+
+	public static LectureFingerprintDto of(LectureDocument document) {
+		return new LectureFingerprintDto(document.getLectureId(), fingerprint(document.getUpdatedAt(), document.getReviewCnt(),
+			document.getPopularity(), document.getBookmarkCnt(), document.getHash()));
+	}
+
+	// ES 는 날짜를 밀리초까지만 저장한다
+	private static String fingerprint(LocalDateTime updatedAt, Integer reviewCnt, Float popularity, Integer bookmarkCnt, String hash) {
+		return String.join("|",
+			String.valueOf(updatedAt == null ? null : updatedAt.truncatedTo(ChronoUnit.MILLIS)),
+			String.valueOf(reviewCnt),
+			String.valueOf(popularity),
+			String.valueOf(bookmarkCnt),
+			String.valueOf(hash));
+	}
+}
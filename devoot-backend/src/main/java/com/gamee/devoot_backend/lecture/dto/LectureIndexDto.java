@@ -0,0 +1,29 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * 색인에 필요한 강의 컬럼만 담은 projection. curriculum 처럼 큰 컬럼은 읽지 않는다.
+ */
+@Builder
+public record LectureIndexDto(
+	long id,
+	String category,
+	String name,
+	String lecturer,
+	String imageUrl,
+	int originalPrice,
+	int currentPrice,
+	String sourceUrl,
+	String sourceName,
+	String tags,
+	Integer reviewCnt,
+	Float ratingSum,
+	Integer bookmarkCnt,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt,
+	String hash
+) {
+}
@@ -0,0 +1,51 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import com.gamee.devoot_backend.common.Util;
+import com.gamee.devoot_backend.lecture.exception.InvalidSearchCursorException;
+
+/**
+ * 커서 검색 상태. 클라이언트에는 base64url(JSON) 문자열로 전달된다.
+ * 검색 조건을 함께 담아 두어서 다음 페이지 요청은 cursor 만 보내면 된다.
+ * 첫 페이지는 PIT 없이 검색하므로 첫 페이지가 만든 커서의 pitId 는 null 이다.
+ */
+public record LectureSearchCursor(
+	String pitId,
+	List<Object> searchAfter,
+	int size,
+	String category,
+	String tag,
+	String sort,
+	String query,
+	LectureSearchFilter filter
+) {
+	public LectureSearchCursor next(String pitId, List<Object> searchAfter) {
+		return new LectureSearchCursor(pitId, searchAfter, size, category, tag, sort, query, filter);
+	}
+
+	public String encode() {
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Util.objectMapper.writeValueAsBytes(this));
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to encode search cursor", e);
+		}
+	}
+
+	public static LectureSearchCursor decode(String cursor) {
+		try {
+			LectureSearchCursor decoded = Util.objectMapper.readValue(
+				new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), LectureSearchCursor.class);
+			if (decoded.searchAfter() == null || decoded.searchAfter().isEmpty() || decoded.size() <= 0) {
+				throw new InvalidSearchCursorException();
+			}
+			return decoded;
+		} catch (InvalidSearchCursorException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new InvalidSearchCursorException();
+		}
+	}
+}
@@ -20,10 +20,6 @@ public record LectureSearchDetailDto(
 	Integer reviewCnt
 ) {
 	public static LectureSearchDetailDto of(Lecture lecture) {
-		float ratingValue = (lecture.getReviewCnt() != null && lecture.getReviewCnt() > 0)
-			? (lecture.getRatingSum() / lecture.getReviewCnt())
-			: 0f;
-
 		return LectureSearchDetailDto.builder()
 			.id(lecture.getId())
 			.category(lecture.getCategory())
@@ -35,7 +31,7 @@ public record LectureSearchDetailDto(
 			.sourceName(lecture.getSourceName())
 			.sourceUrl(lecture.getSourceUrl())
 			.imageUrl(lecture.getImageUrl())
-			.rating(ratingValue)
+			.rating(Lecture.rating(lecture.getReviewCnt(), lecture.getRatingSum()))
 			.reviewCnt(lecture.getReviewCnt())
 			.build();
 	}
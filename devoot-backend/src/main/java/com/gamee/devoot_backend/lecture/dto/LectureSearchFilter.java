@@ -0,0 +1,31 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 검색 범위 필터. null 인 값은 적용하지 않는다.
+ * minPrice/maxPrice 는 currentPrice(원), minRating 은 평균 평점(popularity) 기준이다.
+ * 리뷰가 없는 강의의 평점은 0 이라 minRating 이 0 이하면 모든 강의가 해당하므로, ES 검색과 DB 대체 검색 모두 필터를 적용하지 않는다.
+ */
+public record LectureSearchFilter(
+	Integer minPrice,
+	Integer maxPrice,
+	Float minRating
+) {
+	public static final LectureSearchFilter NONE = new LectureSearchFilter(null, null, null);
+
+	public static LectureSearchFilter of(Integer minPrice, Integer maxPrice, Float minRating) {
+		Float rating = minRating != null && minRating > 0 ? minRating : null;
+		return minPrice == null && maxPrice == null && rating == null ? NONE : new LectureSearchFilter(minPrice, maxPrice, rating);
+	}
+
+	@JsonIgnore
+	public boolean isEmpty() {
+		return minPrice == null && maxPrice == null && minRating == null;
+	}
+
+	@JsonIgnore
+	public boolean isValid() {
+		return minPrice == null || maxPrice == null || minPrice <= maxPrice;
+	}
+}
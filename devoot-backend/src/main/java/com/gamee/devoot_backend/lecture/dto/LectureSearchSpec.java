@@ -0,0 +1,33 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * 묶음 검색의 한 줄(row). key 는 응답에서 이 줄의 결과를 찾는 이름이고, 나머지는 /search 의 파라미터와 같다.
+ */
+public record LectureSearchSpec(
+	@NotBlank String key,
+	@Positive Integer page,
+	@Positive @Max(100) Integer size,
+	String category,
+	String tag,
+	String sort,
+	String query,
+	@PositiveOrZero Integer minPrice,
+	@PositiveOrZero Integer maxPrice,
+	@DecimalMin("0") @DecimalMax("5") Float minRating
+) {
+	public LectureSearchSpec {
+		page = page == null ? 1 : page;
+		size = size == null ? 20 : size;
+	}
+
+	public LectureSearchFilter filter() {
+		return LectureSearchFilter.of(minPrice, maxPrice, minRating);
+	}
+}
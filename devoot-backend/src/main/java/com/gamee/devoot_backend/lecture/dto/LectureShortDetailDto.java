@@ -16,14 +16,14 @@ public record LectureShortDetailDto(
 	String sourceUrl,
 	JsonNode curriculum
 ) {
-	public static LectureShortDetailDto of(Lecture lecture) {
+	public static LectureShortDetailDto of(Lecture lecture, String curriculum) {
 		return LectureShortDetailDto.builder()
 			.id(lecture.getId())
 			.name(lecture.getName())
 			.sourceName(lecture.getSourceName())
 			.imageUrl(lecture.getImageUrl())
 			.tags(lecture.getTags())
-			.curriculum(Util.parseToJson(lecture.getCurriculum()))
+			.curriculum(Util.parseToJson(curriculum))
 			.sourceUrl(lecture.getSourceUrl())
 			.build();
 	}
@@ -0,0 +1,17 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
+/**
+ * 리뷰 통계/북마크 수만 바뀐 강의를 부분 업데이트할 때 읽는 값
+ */
+public record LectureStatsDto(
+	long id,
+	Integer reviewCnt,
+	Float ratingSum,
+	Integer bookmarkCnt
+) {
+	public float popularity() {
+		return Lecture.rating(reviewCnt, ratingSum);
+	}
+}
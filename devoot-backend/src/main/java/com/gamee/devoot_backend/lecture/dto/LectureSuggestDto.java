@@ -0,0 +1,20 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+
+import lombok.Builder;
+
+@Builder
+public record LectureSuggestDto(
+	Long id,
+	String name,
+	String imageUrl
+) {
+	public static LectureSuggestDto of(LectureDocument document) {
+		return LectureSuggestDto.builder()
+			.id(Long.valueOf(document.getId()))
+			.name(document.getName())
+			.imageUrl(document.getImageUrl())
+			.build();
+	}
+}
@@ -2,6 +2,7 @@ package com.gamee.devoot_backend.lecture.dto;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
 
 public record LectureUpdateDto(
 	String category,
@@ -25,6 +26,9 @@ public record LectureUpdateDto(
 		lecture.setSourceName(sourceName);
 		lecture.setSourceUrl(sourceUrl);
 		lecture.setImageUrl(imgUrl);
-		lecture.setCurriculum(curriculum.toString());
+	}
+
+	public LectureCurriculum toCurriculum(long lectureId) {
+		return new LectureCurriculum(lectureId, curriculum.toString());
 	}
 }
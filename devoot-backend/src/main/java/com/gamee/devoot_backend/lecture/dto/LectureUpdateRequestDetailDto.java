@@ -14,11 +14,14 @@ public record LectureUpdateRequestDetailDto(
 	LocalDateTime createdAt,
 	LectureDetailDto lecture
 ) {
-	public static LectureUpdateRequestDetailDto of(LectureUpdateRequest request) {
+	/**
+	 * curriculum 이 null 이면 목록처럼 curriculum 없이 내려준다.
+	 */
+	public static LectureUpdateRequestDetailDto of(LectureUpdateRequest request, String curriculum) {
 		return LectureUpdateRequestDetailDto.builder()
 			.id(request.getId())
 			.createdAt(request.getCreatedAt())
-			.lecture(LectureDetailDto.of(request.getLecture()))
+			.lecture(LectureDetailDto.of(request.getLecture(), curriculum))
 			.build();
 	}
 }
@@ -0,0 +1,23 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import java.time.LocalDateTime;
+
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
+/**
+ * 조건부 GET 의 ETag/Last-Modified 를 만들 때 읽는 값. 본문을 만들기 전에 PK 로 가볍게 읽는다.
+ * 리뷰 통계와 북마크 수는 상세 캐시가 아니라 이 값에서 꺼내므로 ETag 와 본문이 어긋나지 않는다.
+ */
+public record LectureVersionDto(
+	long id,
+	LocalDateTime updatedAt,
+	String hash,
+	Integer reviewCnt,
+	Float ratingSum,
+	Integer reviewVersion,
+	Integer bookmarkCnt
+) {
+	public float rating() {
+		return Lecture.rating(reviewCnt, ratingSum);
+	}
+}
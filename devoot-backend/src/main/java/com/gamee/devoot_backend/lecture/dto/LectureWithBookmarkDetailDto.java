@@ -1,7 +1,5 @@
 package com.gamee.devoot_backend.lecture.dto;
 
-import com.gamee.devoot_backend.lecture.entity.Lecture;
-
 public record LectureWithBookmarkDetailDto(
 	long id,
 	String category,
@@ -19,19 +17,19 @@ public record LectureWithBookmarkDetailDto(
 	boolean isBookmarked,
 	long bookmarkId
 ) {
-	public LectureWithBookmarkDetailDto(Lecture lecture, long bookmarkCount, float rating, boolean isBookmarked, long bookmarkId) {
+	public LectureWithBookmarkDetailDto(LectureDetailDto detail, String curriculum, long bookmarkCount, float rating, boolean isBookmarked, long bookmarkId) {
 		this(
-			lecture.getId(),
-			lecture.getCategory(),
-			lecture.getTags(),
-			lecture.getName(),
-			lecture.getLecturer(),
-			lecture.getCurrentPrice(),
-			lecture.getOriginalPrice(),
-			lecture.getSourceName(),
-			lecture.getSourceUrl(),
-			lecture.getImageUrl(),
-			lecture.getCurriculum(),
+			detail.id(),
+			detail.category(),
+			detail.tags(),
+			detail.name(),
+			detail.lecturer(),
+			detail.currentPrice(),
+			detail.originPrice(),
+			detail.sourceName(),
+			detail.sourceUrl(),
+			detail.imgUrl(),
+			curriculum,
 			bookmarkCount,
 			rating,
 			isBookmarked,
@@ -2,6 +2,7 @@ package com.gamee.devoot_backend.lecture.entity;
 
 import java.time.LocalDateTime;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -31,13 +32,28 @@ public class Lecture {
 	private String imageUrl;
 	private int originalPrice;
 	private int currentPrice;
-	private String curriculum;
 	private String sourceUrl;
 	private String sourceName;
 	private String tags;
 	private Integer reviewCnt;
 	private Float ratingSum;
+	// 리뷰가 추가/수정/삭제될 때마다 올라간다. 리뷰 목록과 상세 화면의 ETag 에 쓴다
+	@Column(columnDefinition = "int default 0", insertable = false, updatable = false)
+	private Integer reviewVersion;
+	// BookmarkCountBuffer 가 모아 둔 증감분으로만 바뀐다. 엔티티 저장이 동시에 반영된 값을 덮어쓰지 않도록 insert/update 에서 뺀다
+	@Column(columnDefinition = "int default 0", insertable = false, updatable = false)
+	private Integer bookmarkCnt;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 	private String hash;
+
+	/**
+	 * 평균 평점. ES 의 popularity 와 상세 화면의 rating 이 모두 이 값을 쓴다.
+	 */
+	public static float rating(Integer reviewCnt, Float ratingSum) {
+		if (reviewCnt == null || reviewCnt <= 0 || ratingSum == null) {
+			return 0f;
+		}
+		return ratingSum / reviewCnt;
+	}
 }
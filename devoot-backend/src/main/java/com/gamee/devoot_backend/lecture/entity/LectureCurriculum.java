@@ -0,0 +1,36 @@
+package com.gamee.devoot_backend.lecture.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import com.gamee.devoot_backend.common.converter.CompressedStringConverter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * lecture 테이블의 curriculum 컬럼만 따로 매핑한다.
+ * curriculum 은 크기가 커서 Lecture 에서는 매핑하지 않고, 상세/curriculum 조회처럼 필요한 곳에서만 이 엔티티로 읽는다.
+ * 행은 Lecture 가 만들며, 이 엔티티는 이미 있는 행의 curriculum 만 수정한다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "lecture")
+public class LectureCurriculum {
+	// 같은 테이블의 Lecture 와 DDL 이 어긋나지 않도록 id 생성 전략을 맞춘다
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Convert(converter = CompressedStringConverter.class)
+	@Column(columnDefinition = "longblob")
+	private String curriculum;
+}
@@ -0,0 +1,57 @@
+package com.gamee.devoot_backend.lecture.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 색인해야 할 강의 변경 기록. 강의/리뷰 통계를 바꾸는 트랜잭션 안에서 함께 저장되고,
+ * LectureOutboxRelay 가 읽어서 ES 에 반영한 뒤 지운다.
+ * statsOnly 기록은 리뷰 통계(reviewCnt, popularity)나 북마크 수(bookmarkCnt)만 바뀐 것이라 문서 전체 대신 부분 업데이트로 반영된다.
+ * attempts 는 색인에 실패한 횟수로, 정해진 횟수를 넘긴 기록은 relay 가 버린다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "lectureoutbox")
+public class LectureOutbox {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	@Column(nullable = false)
+	private Long lectureId;
+	@Builder.Default
+	@Column(nullable = false)
+	private boolean statsOnly = false;
+	@Builder.Default
+	@Column(nullable = false)
+	private int attempts = 0;
+	@Builder.Default
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+	public static LectureOutbox of(Long lectureId) {
+		return LectureOutbox.builder()
+			.lectureId(lectureId)
+			.build();
+	}
+
+	public static LectureOutbox statsOf(Long lectureId) {
+		return LectureOutbox.builder()
+			.lectureId(lectureId)
+			.statsOnly(true)
+			.build();
+	}
+}
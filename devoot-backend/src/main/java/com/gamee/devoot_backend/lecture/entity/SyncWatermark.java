@@ -0,0 +1,72 @@
+package com.gamee.devoot_backend.lecture.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증분 동기화가 어디까지 반영되었는지를 (updatedAt, id) 키셋으로 기록한다.
+ * name 으로 작업을 구분한다. 워터마크 바로 다음 행이 색인에 실패하면 그 id 와 연속 실패 횟수를 함께 남긴다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "syncwatermark")
+public class SyncWatermark {
+	private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	@Id
+	private String name;
+	@Column(nullable = false)
+	private LocalDateTime lastUpdatedAt;
+	@Column(nullable = false)
+	private Long lastId;
+	private LocalDateTime syncedAt;
+	private Long failedId;
+	@Column(nullable = false)
+	private int failedAttempts;
+
+	/**
+	 * 처음 실행될 때는 모든 행을 동기화 대상으로 본다.
+	 */
+	public static SyncWatermark initial(String name) {
+		return SyncWatermark.builder()
+			.name(name)
+			.lastUpdatedAt(BEGINNING)
+			.lastId(0L)
+			.build();
+	}
+
+	public void advance(LocalDateTime updatedAt, Long id) {
+		this.lastUpdatedAt = updatedAt;
+		this.lastId = id;
+		this.syncedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 같은 id 가 이어서 실패하면 횟수를 올리고, 다른 id 면 1 부터 다시 센다.
+	 * @return 해당 id 의 연속 실패 횟수
+	 */
+	public int recordFailure(Long id) {
+		if (!id.equals(this.failedId)) {
+			this.failedId = id;
+			this.failedAttempts = 0;
+		}
+		return ++this.failedAttempts;
+	}
+
+	public void clearFailure() {
+		this.failedId = null;
+		this.failedAttempts = 0;
+	}
+}
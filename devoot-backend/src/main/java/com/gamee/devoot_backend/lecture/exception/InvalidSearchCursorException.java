@@ -0,0 +1,9 @@
+package com.gamee.devoot_backend.lecture.exception;
+
+import com.gamee.devoot_backend.common.exception.DevootException;
+
+public class InvalidSearchCursorException extends DevootException {
+	public InvalidSearchCursorException() {
+		super(LectureErrorCode.INVALID_SEARCH_CURSOR);
+	}
+}
@@ -11,6 +11,7 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum LectureErrorCode implements ErrorCode {
 	DUPLICATE_LECTURE(HttpStatus.BAD_REQUEST, "LECTURE_400_1", "A lecture with thie sourceUrl already exists"),
+	INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "SEARCH_400_1", "Search cursor is invalid."),
 	PERMISSION_DENIED(HttpStatus.FORBIDDEN, "REVIEW_403_1", "You do not have permission to access this resource."),
 	PRIVATE_ACCOUNT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "LECTURE_403_1", "You do not have permission to access this user"),
 	LECTURE_NOT_EXIST(HttpStatus.NOT_FOUND, "LECTURE_404_1", "Lecture does not exist."),
@@ -18,7 +19,9 @@ public enum LectureErrorCode implements ErrorCode {
 	LECTURE_UPDATE_REQUEST_NOT_EXIST(HttpStatus.NOT_FOUND, "LECTURE_404_3", "Lecture update request does not exist."),
 	LECTURE_ALREADY_REPORTED(HttpStatus.CONFLICT, "LECTURE_409_1", "This lecture has already been reported."),
 	LECTURE_ALREADY_REQUESTED(HttpStatus.CONFLICT, "LECTURE_409_2", "This lecture has already been requested."),
-	SEARCH_EXECUTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SEARCH_500_1", "Error occurred while executing search query.");
+	LECTURE_REINDEX_CONFLICT(HttpStatus.CONFLICT, "SEARCH_409_1", "Lecture index cannot be rebuilt right now."),
+	SEARCH_EXECUTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SEARCH_500_1", "Error occurred while executing search query."),
+	LECTURE_REINDEX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SEARCH_500_2", "Error occurred while rebuilding lecture index.");
 	private final HttpStatus status;
 	private final String code;
 	private final String message;
@@ -0,0 +1,9 @@
+package com.gamee.devoot_backend.lecture.exception;
+
+import com.gamee.devoot_backend.common.exception.DevootException;
+
+public class LectureReindexConflictException extends DevootException {
+	public LectureReindexConflictException(String detail) {
+		super(LectureErrorCode.LECTURE_REINDEX_CONFLICT, detail);
+	}
+}
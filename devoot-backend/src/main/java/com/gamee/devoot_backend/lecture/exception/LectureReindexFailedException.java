@@ -0,0 +1,9 @@
+package com.gamee.devoot_backend.lecture.exception;
+
+import com.gamee.devoot_backend.common.exception.DevootException;
+
+public class LectureReindexFailedException extends DevootException {
+	public LectureReindexFailedException(String detail) {
+		super(LectureErrorCode.LECTURE_REINDEX_FAILED, detail);
+	}
+}
@@ -0,0 +1,8 @@
+package com.gamee.devoot_backend.lecture.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
+
+public interface LectureCurriculumRepository extends JpaRepository<LectureCurriculum, Long> {
+}
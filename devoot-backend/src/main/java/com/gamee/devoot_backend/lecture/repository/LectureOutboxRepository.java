@@ -0,0 +1,21 @@
+package com.gamee.devoot_backend.lecture.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+
+public interface LectureOutboxRepository extends JpaRepository<LectureOutbox, Long> {
+	List<LectureOutbox> findAllByOrderByIdAsc(Limit limit);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE LectureOutbox o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+	void incrementAttempts(Collection<Long> ids);
+}
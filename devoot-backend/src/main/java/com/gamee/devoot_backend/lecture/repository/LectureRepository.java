@@ -1,12 +1,23 @@
 package com.gamee.devoot_backend.lecture.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import com.gamee.devoot_backend.lecture.dto.LectureBatchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureBookmarkCntDto;
+import com.gamee.devoot_backend.lecture.dto.LectureFingerprintDto;
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.dto.LectureStatsDto;
+import com.gamee.devoot_backend.lecture.dto.LectureVersionDto;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
 
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
@@ -14,7 +25,8 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
 	@Query("""
 		UPDATE Lecture l
 		SET l.reviewCnt = l.reviewCnt + 1,
-			l.ratingSum = l.ratingSum + :rating
+			l.ratingSum = l.ratingSum + :rating,
+			l.reviewVersion = l.reviewVersion + 1
 		WHERE l.id = :id
 		""")
 	void incrementReviewStats(Long id, Float rating);
@@ -23,7 +35,8 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
 	@Query("""
 		UPDATE Lecture l
 		SET l.reviewCnt = l.reviewCnt - 1,
-			l.ratingSum = l.ratingSum - :rating
+			l.ratingSum = l.ratingSum - :rating,
+			l.reviewVersion = l.reviewVersion + 1
 		WHERE l.id = :id
 		""")
 	void decrementReviewStats(Long id, Float rating);
@@ -31,10 +44,135 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
 	@Modifying
 	@Query("""
 		UPDATE Lecture l
-		SET l.ratingSum = l.ratingSum - :beforeRating + :newRating
+		SET l.ratingSum = l.ratingSum - :beforeRating + :newRating,
+			l.reviewVersion = l.reviewVersion + 1
 		WHERE l.id = :id
 		""")
 	void updateReviewStats(Long id, Float beforeRating, Float newRating);
 
-	List<Lecture> findByUpdatedAtAfter(LocalDateTime time);
+	/**
+	 * (updatedAt, id) 키셋 다음부터 변경된 강의를 순서대로 가져온다.
+	 * updatedAt 이 같은 행들도 id 로 이어서 읽으므로 건너뛰는 행이 없다.
+	 * 엔티티가 아닌 색인용 projection 으로 읽으므로 영속성 컨텍스트에 쌓이지 않는다.
+	 */
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureIndexDto(
+			l.id, l.category, l.name, l.lecturer, l.imageUrl, l.originalPrice, l.currentPrice,
+			l.sourceUrl, l.sourceName, l.tags, l.reviewCnt, l.ratingSum, l.bookmarkCnt, l.createdAt, l.updatedAt, l.hash)
+		FROM Lecture l
+		WHERE (l.updatedAt > :updatedAt
+		OR (l.updatedAt = :updatedAt AND l.id > :id))
+		AND l.updatedAt <= :until
+		ORDER BY l.updatedAt, l.id
+		""")
+	List<LectureIndexDto> findChangedAfter(LocalDateTime updatedAt, long id, LocalDateTime until, Limit limit);
+
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureIndexDto(
+			l.id, l.category, l.name, l.lecturer, l.imageUrl, l.originalPrice, l.currentPrice,
+			l.sourceUrl, l.sourceName, l.tags, l.reviewCnt, l.ratingSum, l.bookmarkCnt, l.createdAt, l.updatedAt, l.hash)
+		FROM Lecture l
+		WHERE l.id IN :ids
+		""")
+	List<LectureIndexDto> findIndexDtosByIdIn(Collection<Long> ids);
+
+	/**
+	 * 여러 강의를 한 번에 보여 줄 때 쓴다. curriculum 없이 카드에 필요한 컬럼만 읽는다.
+	 */
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureBatchDetailDto(
+			l.id, l.category, l.tags, l.name, l.lecturer, l.currentPrice, l.originalPrice,
+			l.sourceName, l.sourceUrl, l.imageUrl, l.reviewCnt, l.ratingSum, l.bookmarkCnt)
+		FROM Lecture l
+		WHERE l.id IN :ids
+		""")
+	List<LectureBatchDetailDto> findBatchDetailsByIdIn(Collection<Long> ids);
+
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureStatsDto(l.id, l.reviewCnt, l.ratingSum, l.bookmarkCnt)
+		FROM Lecture l
+		WHERE l.id IN :ids
+		""")
+	List<LectureStatsDto> findStatsByIdIn(Collection<Long> ids);
+
+	/**
+	 * (afterId, toId] 구간을 id 순서로 읽는다. 전체 재색인에서 구간마다 하나의 reader 가 키셋으로 이어 읽는다.
+	 */
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureIndexDto(
+			l.id, l.category, l.name, l.lecturer, l.imageUrl, l.originalPrice, l.currentPrice,
+			l.sourceUrl, l.sourceName, l.tags, l.reviewCnt, l.ratingSum, l.bookmarkCnt, l.createdAt, l.updatedAt, l.hash)
+		FROM Lecture l
+		WHERE l.id > :afterId AND l.id <= :toId
+		ORDER BY l.id
+		""")
+	List<LectureIndexDto> findIndexDtosInRange(long afterId, long toId, Limit limit);
+
+	/**
+	 * BookmarkCountBuffer 가 같은 증감분을 가진 강의를 모아 한 번에 반영한다.
+	 */
+	@Modifying
+	@Query("""
+		UPDATE Lecture l
+		SET l.bookmarkCnt = l.bookmarkCnt + :delta
+		WHERE l.id IN :ids
+		""")
+	void addBookmarkCnt(Collection<Long> ids, int delta);
+
+	@Modifying
+	@Query("UPDATE Lecture l SET l.bookmarkCnt = :bookmarkCnt WHERE l.id = :id")
+	void updateBookmarkCnt(long id, int bookmarkCnt);
+
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureVersionDto(
+			l.id, l.updatedAt, l.hash, l.reviewCnt, l.ratingSum, l.reviewVersion, l.bookmarkCnt)
+		FROM Lecture l
+		WHERE l.id = :id
+		""")
+	Optional<LectureVersionDto> findVersionById(Long id);
+
+	/**
+	 * (afterId, toId] 구간에서 bookmarkCnt 가 실제 북마크 수와 다른 강의만 읽는다.
+	 */
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureBookmarkCntDto(
+			l.id, l.bookmarkCnt, (SELECT COUNT(b) FROM Bookmark b WHERE b.lectureId = l.id))
+		FROM Lecture l
+		WHERE l.id > :afterId AND l.id <= :toId
+		AND l.bookmarkCnt <> (SELECT COUNT(b) FROM Bookmark b WHERE b.lectureId = l.id)
+		ORDER BY l.id
+		""")
+	List<LectureBookmarkCntDto> findBookmarkCntDriftsInRange(long afterId, long toId);
+
+	@Query("SELECT COALESCE(MAX(l.id), 0) FROM Lecture l")
+	long findMaxId();
+
+	/**
+	 * ES 장애 시 사용하는 단순 검색. namePattern 은 역슬래시로 LIKE 이스케이프가 끝난 접두사 패턴이다.
+	 * 가격/평점 범위는 null 이면 적용하지 않는다. 평점은 ES 의 popularity 와 같이 리뷰가 없으면 0 으로 본다.
+	 */
+	@Query("""
+		SELECT l FROM Lecture l
+		WHERE (:namePattern IS NULL OR l.name LIKE :namePattern ESCAPE '\\')
+		AND (:category IS NULL OR l.category = :category)
+		AND (:minPrice IS NULL OR l.currentPrice >= :minPrice)
+		AND (:maxPrice IS NULL OR l.currentPrice <= :maxPrice)
+		AND (:minRating IS NULL OR (CASE WHEN l.reviewCnt > 0 THEN l.ratingSum / l.reviewCnt ELSE 0.0F END) >= :minRating)
+		""")
+	Page<Lecture> searchForFallback(
+		String namePattern,
+		String category,
+		Integer minPrice,
+		Integer maxPrice,
+		Float minRating,
+		Pageable pageable
+	);
+
+	@Query("""
+		SELECT new com.gamee.devoot_backend.lecture.dto.LectureFingerprintDto(l.id, l.updatedAt, l.reviewCnt, l.ratingSum, l.bookmarkCnt, l.hash)
+		FROM Lecture l
+		WHERE l.id > :id
+		ORDER BY l.id
+		""")
+	List<LectureFingerprintDto> findFingerprintsAfter(long id, Limit limit);
 }
@@ -0,0 +1,207 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LectureDocument 를 bulk 요청으로 색인한다.
+ * 요청은 문서 수(batch-size)와 본문 크기(max-bytes) 중 먼저 닿는 기준으로 나누고,
+ * 실패한 항목만 모아 max-retries 번까지 다시 보낸다.
+ * 일부 필드만 바꿀 때는 update() 로 부분 문서를, 문서를 지울 때는 delete() 로 id 목록을 보낸다.
+ */
+@Component
+@Slf4j
+public class LectureBulkIndexer {
+	// bulk 요청에서 문서마다 붙는 action 메타데이터 줄의 대략적인 크기
+	private static final int ACTION_OVERHEAD_BYTES = 64;
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final int batchSize;
+	private final long maxBytes;
+	private final int maxRetries;
+	private final long retryBackoffMillis;
+
+	public LectureBulkIndexer(
+		ElasticsearchOperations elasticsearchOperations,
+		ElasticsearchConverter elasticsearchConverter,
+		@Value("${lecture.sync.bulk.batch-size:500}") int batchSize,
+		@Value("${lecture.sync.bulk.max-bytes:5MB}") DataSize maxBytes,
+		@Value("${lecture.sync.bulk.max-retries:3}") int maxRetries,
+		@Value("${lecture.sync.bulk.retry-backoff-millis:200}") long retryBackoffMillis
+	) {
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.elasticsearchConverter = elasticsearchConverter;
+		this.batchSize = batchSize;
+		this.maxBytes = maxBytes.toBytes();
+		this.maxRetries = maxRetries;
+		this.retryBackoffMillis = retryBackoffMillis;
+	}
+
+	public Result index(List<LectureDocument> documents, IndexCoordinates index) {
+		long start = System.nanoTime();
+		int requests = 0;
+		Map<String, String> failures = new LinkedHashMap<>();
+
+		for (List<SizedQuery> batch : split(documents)) {
+			List<SizedQuery> pending = batch;
+			for (int attempt = 0; !pending.isEmpty(); attempt++) {
+				if (attempt > 0) {
+					sleep(retryBackoffMillis * attempt);
+				}
+				requests++;
+				Map<String, String> failed = send(pending, index);
+				if (failed.isEmpty() || attempt >= maxRetries) {
+					failures.putAll(failed);
+					break;
+				}
+				log.warn("Bulk index: {} of {} items failed, retrying (attempt {}/{})", failed.size(), pending.size(), attempt + 1, maxRetries);
+				pending = pending.stream().filter(query -> failed.containsKey(query.query().getId())).toList();
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			log.error("Bulk index: {} items failed after {} retries: {}", failures.size(), maxRetries, failures);
+		}
+		return new Result(documents.size() - failures.size(), failures, requests, System.nanoTime() - start);
+	}
+
+	/**
+	 * 부분 문서로 update 한다. 본문이 작아서 batch-size 로만 나누고, 실패한 항목은 재시도하지 않고 돌려준다.
+	 */
+	public Result update(List<UpdateQuery> queries, IndexCoordinates index) {
+		long start = System.nanoTime();
+		int requests = 0;
+		Map<String, String> failures = new LinkedHashMap<>();
+
+		for (int from = 0; from < queries.size(); from += batchSize) {
+			List<UpdateQuery> batch = queries.subList(from, Math.min(queries.size(), from + batchSize));
+			requests++;
+			try {
+				elasticsearchOperations.bulkUpdate(batch, index);
+			} catch (BulkFailureException e) {
+				e.getFailedDocuments().forEach((id, details) -> failures.put(id, String.valueOf(details)));
+			} catch (Exception e) {
+				log.warn("Bulk update request failed", e);
+				batch.forEach(query -> failures.put(query.getId(), e.toString()));
+			}
+		}
+		return new Result(queries.size() - failures.size(), failures, requests, System.nanoTime() - start);
+	}
+
+	/**
+	 * id 목록을 batch-size 씩 ids 쿼리로 묶어 delete-by-query 로 지운다.
+	 * indexed 는 ES 가 실제로 지운 문서 수이고, 요청이 실패한 배치의 id 는 failures 로 돌려준다.
+	 */
+	public Result delete(List<String> ids, IndexCoordinates index) {
+		long start = System.nanoTime();
+		int requests = 0;
+		int deleted = 0;
+		Map<String, String> failures = new LinkedHashMap<>();
+
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			List<String> batch = ids.subList(from, Math.min(ids.size(), from + batchSize));
+			requests++;
+			try {
+				DeleteQuery query = DeleteQuery.builder(NativeQuery.builder().withIds(batch).build()).build();
+				ByQueryResponse response = elasticsearchOperations.delete(query, LectureDocument.class, index);
+				deleted += (int)response.getDeleted();
+				if (!response.getFailures().isEmpty()) {
+					log.warn("Bulk delete: {} failures", response.getFailures().size());
+					batch.forEach(id -> failures.put(id, String.valueOf(response.getFailures().get(0))));
+				}
+			} catch (Exception e) {
+				log.warn("Bulk delete request failed", e);
+				batch.forEach(id -> failures.put(id, e.toString()));
+			}
+		}
+		return new Result(deleted, failures, requests, System.nanoTime() - start);
+	}
+
+	/**
+	 * 실패한 문서 id 와 사유. 요청 자체가 실패하면 배치 전체를 실패로 본다.
+	 */
+	private Map<String, String> send(List<SizedQuery> batch, IndexCoordinates index) {
+		try {
+			elasticsearchOperations.bulkIndex(batch.stream().map(SizedQuery::query).toList(), index);
+			return Map.of();
+		} catch (BulkFailureException e) {
+			Map<String, String> failed = new LinkedHashMap<>();
+			e.getFailedDocuments().forEach((id, details) -> failed.put(id, String.valueOf(details)));
+			return failed;
+		} catch (Exception e) {
+			log.warn("Bulk index request failed", e);
+			Map<String, String> failed = new LinkedHashMap<>();
+			batch.forEach(query -> failed.put(query.query().getId(), e.toString()));
+			return failed;
+		}
+	}
+
+	private List<List<SizedQuery>> split(List<LectureDocument> documents) {
+		List<List<SizedQuery>> batches = new ArrayList<>();
+		List<SizedQuery> current = new ArrayList<>();
+		long currentBytes = 0;
+		for (LectureDocument document : documents) {
+			SizedQuery query = toQuery(document);
+			if (!current.isEmpty() && (current.size() >= batchSize || currentBytes + query.bytes() > maxBytes)) {
+				batches.add(current);
+				current = new ArrayList<>();
+				currentBytes = 0;
+			}
+			current.add(query);
+			currentBytes += query.bytes();
+		}
+		if (!current.isEmpty()) {
+			batches.add(current);
+		}
+		return batches;
+	}
+
+	// 크기를 재기 위해 한 번 직렬화하고, 그 결과를 그대로 요청 본문으로 쓴다
+	private SizedQuery toQuery(LectureDocument document) {
+		String source = elasticsearchConverter.mapObject(document).toJson();
+		IndexQuery query = new IndexQueryBuilder()
+			.withId(document.getId())
+			.withSource(source)
+			.build();
+		return new SizedQuery(query, source.getBytes(StandardCharsets.UTF_8).length + ACTION_OVERHEAD_BYTES);
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record SizedQuery(IndexQuery query, long bytes) {
+	}
+
+	public record Result(int indexed, Map<String, String> failures, int requests, long elapsedNanos) {
+		public double docsPerSecond() {
+			return elapsedNanos == 0 ? 0 : indexed * 1_000_000_000.0 / elapsedNanos;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gamee.devoot_backend.lecture.dto.LectureDetailDto;
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 강의 상세 중 사용자와 무관한 부분(강의 정보, 파싱된 curriculum)의 read-through 캐시.
+ * 평점, 북마크 수와 사용자별 북마크 여부는 캐시하지 않고 요청마다 조회한다.
+ * 강의 수정/동기화 시 invalidate 되며, 항목의 updatedAt 이 DB 와 다르면 LectureService 가 다시 읽는다.
+ */
+@Component
+public class LectureDetailCache {
+	private final Cache<Long, Entry> cache;
+
+	public LectureDetailCache(
+		@Value("${lecture.detail-cache.maximum-size:5000}") long maximumSize,
+		@Value("${lecture.detail-cache.ttl:10m}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "lectureDetail");
+	}
+
+	/**
+	 * 없으면 loader 로 읽어 담는다. loader 가 null 을 돌려주면(없는 강의) 담지 않고 null 을 돌려준다.
+	 */
+	public Entry get(long id, LongFunction<Entry> loader) {
+		return cache.get(id, loader::apply);
+	}
+
+	public void invalidate(long id) {
+		cache.invalidate(id);
+	}
+
+	public void invalidateAll(Collection<Long> ids) {
+		cache.invalidateAll(ids);
+	}
+
+	/**
+	 * curriculum 은 원문(/curriculum 응답용)과 파싱된 JsonNode(detail.curriculum) 를 함께 담는다.
+	 * JsonNode 는 여러 요청이 공유하므로 수정하면 안 된다.
+	 */
+	public record Entry(LectureDetailDto detail, String curriculum, LocalDateTime updatedAt) {
+		public static Entry of(Lecture lecture, String curriculum) {
+			return new Entry(LectureDetailDto.of(lecture, curriculum), curriculum, lecture.getUpdatedAt());
+		}
+	}
+}
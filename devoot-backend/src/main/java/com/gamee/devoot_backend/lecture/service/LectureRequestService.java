@@ -10,6 +10,7 @@ import com.gamee.devoot_backend.lecture.dto.LectureCreateRequestDetailDto;
 import com.gamee.devoot_backend.lecture.dto.LectureUpdateRequestCreateDto;
 import com.gamee.devoot_backend.lecture.dto.LectureUpdateRequestDetailDto;
 import com.gamee.devoot_backend.lecture.entity.LectureCreateRequest;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
 import com.gamee.devoot_backend.lecture.entity.LectureUpdateRequest;
 import com.gamee.devoot_backend.lecture.exception.LectureAlreadyReportedException;
 import com.gamee.devoot_backend.lecture.exception.LectureAlreadyRequestedException;
@@ -17,6 +18,7 @@ import com.gamee.devoot_backend.lecture.exception.LectureCreateRequestNotFoundEx
 import com.gamee.devoot_backend.lecture.exception.LectureNotFoundException;
 import com.gamee.devoot_backend.lecture.exception.LectureUpdateRequestNotFoundException;
 import com.gamee.devoot_backend.lecture.repository.LectureCreateRequestRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureCurriculumRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureUpdateRequestRepository;
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
@@ -32,6 +34,7 @@ public class LectureRequestService {
 	private final LectureRepository lectureRepository;
 	private final UserService userService;
 	private final LectureUpdateRequestRepository lectureUpdateRequestRepository;
+	private final LectureCurriculumRepository lectureCurriculumRepository;
 
 	public void addLectureCreateRequest(LectureCreateRequestCreateDto dto) {
 		try {
@@ -72,7 +75,7 @@ public class LectureRequestService {
 	public List<LectureUpdateRequestDetailDto> getLectureUpdateRequests(CustomUserDetails userDetails) {
 		userService.checkUserIsAdmin(userDetails.id());
 		return updateRequestRepository.findAll().stream()
-			.map(LectureUpdateRequestDetailDto::of)
+			.map(request -> LectureUpdateRequestDetailDto.of(request, null))
 			.toList();
 	}
 
@@ -80,7 +83,10 @@ public class LectureRequestService {
 		userService.checkUserIsAdmin(userDetails.id());
 		LectureUpdateRequest request = updateRequestRepository.findById(id)
 			.orElseThrow(LectureUpdateRequestNotFoundException::new);
-		return LectureUpdateRequestDetailDto.of(request);
+		String curriculum = lectureCurriculumRepository.findById(request.getLectureId())
+			.map(LectureCurriculum::getCurriculum)
+			.orElse(null);
+		return LectureUpdateRequestDetailDto.of(request, curriculum);
 	}
 
 	public void deleteLectureUpdateRequest(CustomUserDetails userDetails, Long id) {
@@ -0,0 +1,126 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gamee.devoot_backend.common.enums.SortType;
+import com.gamee.devoot_backend.common.pageutils.CustomPage;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchFilter;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchSpec;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 강의 검색 결과 캐시.
+ * 키에 인덱스 세대(generation)가 포함되어 있어서, 동기화 후 bumpGeneration() 을 호출하면 이전 결과는 다시 쓰이지 않는다.
+ */
+@Component
+public class LectureSearchCache {
+	private final Cache<Key, CustomPage<LectureSearchDetailDto>> cache;
+	private final AtomicLong generation = new AtomicLong();
+
+	public LectureSearchCache(
+		@Value("${lecture.search-cache.maximum-size:2000}") long maximumSize,
+		@Value("${lecture.search-cache.ttl:10m}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "lectureSearch");
+	}
+
+	public CustomPage<LectureSearchDetailDto> get(
+		int page,
+		int size,
+		String category,
+		String tag,
+		String sort,
+		String query,
+		LectureSearchFilter filter,
+		Supplier<CustomPage<LectureSearchDetailDto>> loader
+	) {
+		Key key = key(page, size, category, tag, sort, query, filter);
+		CustomPage<LectureSearchDetailDto> result = cache.get(key, k -> loader.get());
+		if (result.isDegraded()) {
+			// 대체 경로 결과는 동시에 기다리던 요청끼리만 공유하고 남겨두지 않는다
+			cache.invalidate(key);
+		}
+		return result;
+	}
+
+	/**
+	 * 묶음 검색에서 캐시에 있는 줄은 ES 요청에서 빼기 위해 먼저 확인한다.
+	 */
+	public CustomPage<LectureSearchDetailDto> getIfPresent(LectureSearchSpec spec) {
+		return cache.getIfPresent(key(spec));
+	}
+
+	public void put(LectureSearchSpec spec, CustomPage<LectureSearchDetailDto> result) {
+		if (!result.isDegraded()) {
+			cache.put(key(spec), result);
+		}
+	}
+
+	/**
+	 * 인덱스 내용이 바뀌었을 때 호출한다. 이전 세대의 결과는 모두 버린다.
+	 */
+	public void bumpGeneration() {
+		generation.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	/**
+	 * 같은 키를 가진 줄은 같은 결과를 돌려받으므로, 묶음 검색에서 중복 요청을 걸러낼 때도 쓴다.
+	 */
+	Key key(LectureSearchSpec spec) {
+		return key(spec.page(), spec.size(), spec.category(), spec.tag(), spec.sort(), spec.query(), spec.filter());
+	}
+
+	Key key(int page, int size, String category, String tag, String sort, String query, LectureSearchFilter filter) {
+		String normalizedQuery = normalize(query);
+		// 검색어가 있으면 카테고리 필터는 적용되지 않는다 (LectureService.search 참고)
+		// categoryName 은 normalizer 없는 keyword 라 ES 에 보내는 값 그대로 키로 쓴다. 공백이 붙은 값은 다른 결과(빈 페이지)를 낸다
+		String normalizedCategory = normalizedQuery == null && category != null && !category.isBlank() ? category : null;
+		SortedSet<String> tags = tag == null ? new TreeSet<>() : Arrays.stream(tag.split(","))
+			.map(LectureSearchCache::normalize)
+			.filter(t -> t != null)
+			.collect(Collectors.toCollection(TreeSet::new));
+		return new Key(generation.get(), normalizedQuery, normalizedCategory, tags, filter != null ? filter : LectureSearchFilter.NONE,
+			SortType.resolve(sort), page, size);
+	}
+
+	private static String normalize(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	record Key(
+		long generation,
+		String query,
+		String category,
+		SortedSet<String> tags,
+		LectureSearchFilter filter,
+		SortType sort,
+		int page,
+		int size
+	) {
+	}
+}
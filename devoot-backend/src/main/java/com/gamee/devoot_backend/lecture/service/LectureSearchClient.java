@@ -0,0 +1,170 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 비동기 클라이언트로 강의 검색을 실행한다.
+ * 요청마다 deadline 을 두고, 실패/지연이 이어지면 서킷을 열어 ES 호출 없이 바로 비어 있는 결과를 돌려준다.
+ * 호출자는 결과가 없으면 대체 경로(MariaDB)로 응답한다.
+ * 여러 검색을 한 번에 보낼 때(multiSearch)와 커서 검색(searchHits, PIT 열기)에도 같은 서킷과 deadline 을 적용한다.
+ * 자동완성처럼 더 빨리 포기해야 하는 검색은 searchHits(query, deadline) 으로 짧은 deadline 을 따로 준다.
+ */
+@Component
+@Slf4j
+public class LectureSearchClient {
+	private static final IndexCoordinates LECTURE_INDEX = IndexCoordinates.of("lectures");
+
+	private final ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final CircuitBreaker circuitBreaker;
+	private final Duration deadline;
+
+	public LectureSearchClient(
+		ReactiveElasticsearchOperations reactiveElasticsearchOperations,
+		ElasticsearchOperations elasticsearchOperations,
+		MeterRegistry meterRegistry,
+		@Value("${lecture.search.deadline:800ms}") Duration deadline,
+		@Value("${lecture.search.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+		@Value("${lecture.search.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+		@Value("${lecture.search.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitDurationInOpenState
+	) {
+		this.reactiveElasticsearchOperations = reactiveElasticsearchOperations;
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.deadline = deadline;
+
+		CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+			.failureRateThreshold(failureRateThreshold)
+			.slowCallRateThreshold(failureRateThreshold)
+			.slowCallDurationThreshold(deadline)
+			.slidingWindowSize(slidingWindowSize)
+			.minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+			.waitDurationInOpenState(waitDurationInOpenState)
+			.permittedNumberOfCallsInHalfOpenState(3)
+			.build());
+		this.circuitBreaker = registry.circuitBreaker("lectureSearch");
+		this.circuitBreaker.getEventPublisher()
+			.onStateTransition(event -> log.warn("Lecture search circuit breaker: {}", event.getStateTransition()));
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+	}
+
+	/**
+	 * ES 가 응답하지 못하면(서킷 open, deadline 초과, 오류) Optional.empty() 를 돌려준다.
+	 */
+	public Optional<Result> search(NativeQuery query) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			log.debug("Lecture search skipped, circuit breaker is {}", circuitBreaker.getState());
+			return Optional.empty();
+		}
+		long start = System.nanoTime();
+		try {
+			Result result = reactiveElasticsearchOperations.searchForHits(query, LectureDocument.class)
+				.flatMap(hits -> hits.getSearchHits().collectList()
+					.map(list -> new Result(list, hits.getTotalHits(), hits.getAggregations())))
+				.timeout(deadline)
+				.block();
+			circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return Optional.ofNullable(result);
+		} catch (Exception e) {
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+			log.warn("Lecture search failed, falling back: {}", e.toString());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 검색들을 _msearch 한 번으로 보낸다. 결과는 queries 와 같은 순서이며, ES 가 응답하지 못하면 Optional.empty() 를 돌려준다.
+	 * 리액티브 템플릿에는 _msearch 가 없어서 동기 템플릿 호출을 별도 스레드에서 실행하고 deadline 을 건다.
+	 */
+	public Optional<List<Result>> multiSearch(List<NativeQuery> queries) {
+		// deadline 이 지나 기다리기를 포기해도 ES 에서는 검색이 계속 돌기 때문에 각 검색에 서버 시간 제한을 함께 건다
+		queries.forEach(query -> query.setTimeout(deadline));
+		return callBlocking("multi search", deadline, () -> elasticsearchOperations.multiSearch(queries, LectureDocument.class, LECTURE_INDEX)
+			.stream()
+			.map(hits -> new Result(hits.getSearchHits(), hits.getTotalHits(), hits.getAggregations()))
+			.toList());
+	}
+
+	/**
+	 * 커서 검색처럼 동기 템플릿이 필요한 검색. search 와 같은 서킷과 deadline 을 적용하고, ES 가 응답하지 못하면 Optional.empty() 를 돌려준다.
+	 */
+	public Optional<SearchHits<LectureDocument>> searchHits(NativeQuery query) {
+		// 기다리기를 포기한 검색이 ES 에서 계속 돌지 않도록 서버에도 같은 시간 제한을 건다
+		query.setTimeout(deadline);
+		return callBlocking("search", deadline, () -> elasticsearchOperations.search(query, LectureDocument.class));
+	}
+
+	/**
+	 * 기본 deadline 대신 주어진 deadline 으로 검색한다. 쿼리에 서버 시간 제한이 없으면 같은 값을 건다.
+	 */
+	public Optional<SearchHits<LectureDocument>> searchHits(NativeQuery query, Duration deadline) {
+		if (query.getTimeout() == null) {
+			query.setTimeout(deadline);
+		}
+		return callBlocking("search", deadline, () -> elasticsearchOperations.search(query, LectureDocument.class));
+	}
+
+	public Optional<String> openPointInTime(Duration keepAlive) {
+		return callBlocking("open point in time", deadline, () -> elasticsearchOperations.openPointInTime(LECTURE_INDEX, keepAlive));
+	}
+
+	public void closePointInTime(String pitId) {
+		try {
+			elasticsearchOperations.closePointInTime(pitId);
+		} catch (Exception e) {
+			// keep-alive 가 지나면 ES 가 정리하므로 실패해도 응답에는 영향 없음
+			log.warn("Failed to close point in time", e);
+		}
+	}
+
+	private <T> Optional<T> callBlocking(String operation, Duration deadline, Callable<T> call) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			log.debug("Lecture {} skipped, circuit breaker is {}", operation, circuitBreaker.getState());
+			return Optional.empty();
+		}
+		long start = System.nanoTime();
+		try {
+			T result = Mono.fromCallable(call)
+				.subscribeOn(Schedulers.boundedElastic())
+				.timeout(deadline)
+				.block();
+			circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return Optional.ofNullable(result);
+		} catch (Exception e) {
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+			log.warn("Lecture {} failed, falling back: {}", operation, e.toString());
+			return Optional.empty();
+		}
+	}
+
+	public record Result(
+		List<SearchHit<LectureDocument>> searchHits,
+		long totalHits,
+		AggregationsContainer<?> aggregations
+	) {
+	}
+}
@@ -1,40 +1,66 @@
 package com.gamee.devoot_backend.lecture.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gamee.devoot_backend.bookmark.entity.Bookmark;
 import com.gamee.devoot_backend.bookmark.repository.BookmarkRepository;
+import com.gamee.devoot_backend.bookmark.service.BookmarkCountBuffer;
+import com.gamee.devoot_backend.common.Util;
 import com.gamee.devoot_backend.common.enums.SortType;
 import com.gamee.devoot_backend.common.enums.TagType;
+import com.gamee.devoot_backend.common.pageutils.CursorPage;
 import com.gamee.devoot_backend.common.pageutils.CustomPage;
+import com.gamee.devoot_backend.common.scheduler.LectureReindexJob;
 import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.dto.LectureBatchDetailDto;
 import com.gamee.devoot_backend.lecture.dto.LectureCreateDto;
 import com.gamee.devoot_backend.lecture.dto.LectureDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchCursor;
 import com.gamee.devoot_backend.lecture.dto.LectureSearchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchFilter;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchSpec;
+import com.gamee.devoot_backend.lecture.dto.LectureSuggestDto;
 import com.gamee.devoot_backend.lecture.dto.LectureUpdateDto;
+import com.gamee.devoot_backend.lecture.dto.LectureVersionDto;
 import com.gamee.devoot_backend.lecture.dto.LectureWithBookmarkDetailDto;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
 import com.gamee.devoot_backend.lecture.exception.DuplicateLectureException;
 import com.gamee.devoot_backend.lecture.exception.LectureNotFoundException;
-import com.gamee.devoot_backend.lecture.exception.SearchExecutionErrorException;
 import com.gamee.devoot_backend.lecture.repository.LectureCreateRequestRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureCurriculumRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureUpdateRequestRepository;
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
@@ -42,6 +68,7 @@ import com.gamee.devoot_backend.user.service.UserService;
 
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
 import co.elastic.clients.elasticsearch._types.aggregations.StringTermsAggregate;
 import co.elastic.clients.elasticsearch._types.aggregations.TermsInclude;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
@@ -51,6 +78,7 @@ import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
 import lombok.RequiredArgsConstructor;
@@ -63,37 +91,153 @@ public class LectureService {
 	private static final List<String> PRESET_TAGS = Arrays.stream(TagType.values())
 		.map(TagType::getCanonicalName)
 		.collect(Collectors.toList());
+	private static final String PRESET_TAGS_AGGREGATION = "preset_tags";
+	private static final String PRICE_RANGES_AGGREGATION = "price_ranges";
+	private static final String RATING_RANGES_AGGREGATION = "rating_ranges";
+	// 가격(원) 구간. from 은 포함, to 는 제외된다
+	private static final List<AggregationRange> PRICE_RANGES = List.of(
+		AggregationRange.of(r -> r.key("free").to(1.0)),
+		AggregationRange.of(r -> r.key("~30000").from(1.0).to(30000.0)),
+		AggregationRange.of(r -> r.key("30000~50000").from(30000.0).to(50000.0)),
+		AggregationRange.of(r -> r.key("50000~100000").from(50000.0).to(100000.0)),
+		AggregationRange.of(r -> r.key("100000~200000").from(100000.0).to(200000.0)),
+		AggregationRange.of(r -> r.key("200000~").from(200000.0))
+	);
+	// 평점 구간은 "n점 이상" 이라 서로 겹친다 (minRating 필터와 같은 의미)
+	private static final List<AggregationRange> RATING_RANGES = List.of(
+		AggregationRange.of(r -> r.key("4.5+").from(4.5)),
+		AggregationRange.of(r -> r.key("4+").from(4.0)),
+		AggregationRange.of(r -> r.key("3.5+").from(3.5)),
+		AggregationRange.of(r -> r.key("3+").from(3.0))
+	);
+	private static final Duration PIT_KEEP_ALIVE = Duration.ofMinutes(1);
+	private static final List<String> SUGGEST_FIELDS = List.of(
+		"name.suggest^2",
+		"name.suggest._2gram^2",
+		"name.suggest._3gram^2",
+		"lecturer.suggest",
+		"lecturer.suggest._2gram",
+		"lecturer.suggest._3gram"
+	);
+	// 검색 결과(LectureSearchDetailDto)에 쓰는 필드만 가져온다
+	private static final SourceFilter SEARCH_SOURCE = new FetchSourceFilterBuilder()
+		.withIncludes("id", "categoryName", "name", "lecturer", "tags", "currentPrice", "originalPrice",
+			"imageUrl", "sourceUrl", "sourceName", "reviewCnt", "popularity")
+		.build();
+	private static final SourceFilter SUGGEST_SOURCE = new FetchSourceFilterBuilder()
+		.withIncludes("id", "name", "imageUrl")
+		.build();
 	private final LectureRepository lectureRepository;
+	private final LectureCurriculumRepository lectureCurriculumRepository;
+	private final LectureOutboxRepository lectureOutboxRepository;
+	private final LectureReindexJob lectureReindexJob;
 	private final LectureCreateRequestRepository createRequestRepository;
 	private final LectureUpdateRequestRepository updateRequestRepository;
 	private final BookmarkRepository bookmarkRepository;
 	private final UserService userService;
-	private final ElasticsearchOperations elasticsearchOperations;
-
-	public LectureWithBookmarkDetailDto getLectureWithBookmarkDetail(Long id, CustomUserDetails user) {
-		Optional<Lecture> lectureOptional = lectureRepository.findById(id);
-		if (lectureOptional.isPresent()) {
-			Lecture lecture = lectureOptional.get();
-			float rating = 0;
-			if (lecture.getReviewCnt() != 0) {
-				rating = lecture.getRatingSum() / (float)lecture.getReviewCnt();
-			}
-			long count = bookmarkRepository.countByLectureId(lecture.getId());
-			if (user != null) {
-				Optional<Bookmark> bookmarkOptional = bookmarkRepository.findByUserIdAndLectureId(user.id(), id);
-				if (bookmarkOptional.isPresent()) {
-					return new LectureWithBookmarkDetailDto(lecture, count, rating, true, bookmarkOptional.get().getId());
-				}
+	private final LectureSearchCache lectureSearchCache;
+	private final LectureSearchClient lectureSearchClient;
+	private final LectureDetailCache lectureDetailCache;
+	private final BookmarkCountBuffer bookmarkCountBuffer;
+
+	@Value("${lecture.suggest.timeout:20ms}")
+	private Duration suggestTimeout;
+	@Value("${lecture.suggest.deadline:150ms}")
+	private Duration suggestDeadline;
+
+	/**
+	 * 상세/curriculum 의 조건부 GET 에 쓰는 값. 본문을 만들기 전에 이것만 읽어 304 를 판단한다.
+	 */
+	public LectureVersionDto getLectureVersion(Long id) {
+		return lectureRepository.findVersionById(id)
+			.orElseThrow(LectureNotFoundException::new);
+	}
+
+	/**
+	 * 상세 응답의 ETag. 강의 내용(updatedAt, hash), 리뷰(reviewVersion), 북마크 수와 로그인한 사용자의 북마크 여부(bookmarkVersion)로 만든다.
+	 */
+	public String getLectureDetailEtag(LectureVersionDto version, CustomUserDetails user) {
+		long bookmarkCount = getBookmarkCount(version);
+		if (user == null) {
+			return Util.etag(version.id(), version.updatedAt(), version.hash(), version.reviewVersion(), bookmarkCount);
+		}
+		return Util.etag(version.id(), version.updatedAt(), version.hash(), version.reviewVersion(), bookmarkCount,
+			user.id(), userService.getBookmarkVersion(user.id()));
+	}
+
+	public String getLectureCurriculumEtag(LectureVersionDto version) {
+		return Util.etag(version.id(), version.updatedAt(), version.hash());
+	}
+
+	public LectureWithBookmarkDetailDto getLectureWithBookmarkDetail(LectureVersionDto version, CustomUserDetails user) {
+		LectureDetailCache.Entry entry = getDetailEntry(version);
+		long count = getBookmarkCount(version);
+		if (user != null) {
+			Optional<Bookmark> bookmarkOptional = bookmarkRepository.findByUserIdAndLectureId(user.id(), version.id());
+			if (bookmarkOptional.isPresent()) {
+				return new LectureWithBookmarkDetailDto(entry.detail(), entry.curriculum(), count, version.rating(), true, bookmarkOptional.get().getId());
 			}
-			return new LectureWithBookmarkDetailDto(lecture, count, rating, false, -1);
 		}
-		throw new LectureNotFoundException();
+		return new LectureWithBookmarkDetailDto(entry.detail(), entry.curriculum(), count, version.rating(), false, -1);
+	}
+
+	public String getLectureCurriculum(LectureVersionDto version) {
+		return getDetailEntry(version).curriculum();
 	}
 
 	public LectureDetailDto getLectureDetail(Long id) {
-		Lecture lecture = lectureRepository.findById(id)
-			.orElseThrow(LectureNotFoundException::new);
-		return LectureDetailDto.of(lecture);
+		return getDetailEntry(id).detail();
+	}
+
+	/**
+	 * 여러 강의를 한 번에 읽는다. 강의는 IN 쿼리 한 번, 로그인한 사용자의 북마크 여부는 쿼리 한 번으로 채운다.
+	 * 요청한 순서를 지키고 중복된 id 는 한 번만 담으며, 없는 강의는 빠진다.
+	 */
+	public List<LectureBatchDetailDto> getLectures(List<Long> ids, CustomUserDetails user) {
+		List<Long> distinctIds = ids.stream().distinct().toList();
+		Map<Long, LectureBatchDetailDto> lectures = lectureRepository.findBatchDetailsByIdIn(distinctIds).stream()
+			.collect(Collectors.toMap(LectureBatchDetailDto::id, Function.identity()));
+		Map<Long, Long> bookmarkIds = user == null || lectures.isEmpty()
+			? Map.of()
+			: bookmarkRepository.findByUserIdAndLectureIdIn(user.id(), lectures.keySet()).stream()
+				.collect(Collectors.toMap(Bookmark::getLectureId, Bookmark::getId));
+		return distinctIds.stream()
+			.map(lectures::get)
+			.filter(Objects::nonNull)
+			.map(lecture -> lecture.withBookmark(bookmarkCountBuffer.pending(lecture.id()), bookmarkIds.get(lecture.id())))
+			.toList();
+	}
+
+	/**
+	 * 저장된 bookmarkCnt 에 이 인스턴스에서 아직 반영되지 않은 증감분을 더한다. 방금 북마크한 사용자는 자기 변경을 바로 본다.
+	 */
+	private long getBookmarkCount(LectureVersionDto version) {
+		Integer bookmarkCnt = version.bookmarkCnt();
+		return Math.max(0, (bookmarkCnt == null ? 0 : bookmarkCnt) + bookmarkCountBuffer.pending(version.id()));
+	}
+
+	/**
+	 * 크롤러가 바꾼 강의는 동기화 전까지 다른 인스턴스의 캐시에 남아 있으므로, ETag 를 만든 updatedAt 과 다르면 다시 읽는다.
+	 */
+	private LectureDetailCache.Entry getDetailEntry(LectureVersionDto version) {
+		LectureDetailCache.Entry entry = getDetailEntry(version.id());
+		if (!Objects.equals(entry.updatedAt(), version.updatedAt())) {
+			lectureDetailCache.invalidate(version.id());
+			entry = getDetailEntry(version.id());
+		}
+		return entry;
+	}
+
+	private LectureDetailCache.Entry getDetailEntry(Long id) {
+		LectureDetailCache.Entry entry = lectureDetailCache.get(id, key -> lectureRepository.findById(key)
+			.map(lecture -> LectureDetailCache.Entry.of(lecture, lectureCurriculumRepository.findById(key)
+				.map(LectureCurriculum::getCurriculum)
+				.orElse(null)))
+			.orElse(null));
+		if (entry == null) {
+			throw new LectureNotFoundException();
+		}
+		return entry;
 	}
 
 	public CustomPage<LectureSearchDetailDto> search(
@@ -102,8 +246,255 @@ public class LectureService {
 		String category,
 		String tag,
 		String sort,
-		String query
+		String query,
+		LectureSearchFilter filter
+	) {
+		return lectureSearchCache.get(page, size, category, tag, sort, query, filter,
+			() -> executeSearch(page, size, category, tag, sort, query, filter));
+	}
+
+	private CustomPage<LectureSearchDetailDto> executeSearch(
+		int page,
+		int size,
+		String category,
+		String tag,
+		String sort,
+		String query,
+		LectureSearchFilter filter
 	) {
+		NativeQuery nativeQuery = buildPageQuery(page, size, category, tag, sort, query, filter);
+		log.info("Executing NativeQuery: {}", nativeQuery);
+
+		return lectureSearchClient.search(nativeQuery)
+			.map(result -> toCustomPage(result, page, size, sort))
+			.orElseGet(() -> searchFallback(page, size, category, sort, query, filter));
+	}
+
+	/**
+	 * 홈/카테고리 화면의 여러 줄을 한 번에 검색한다. 캐시에 있는 줄은 그대로 쓰고, 나머지는 _msearch 한 번으로 보낸다.
+	 * ES 가 응답하지 못하면 남은 줄을 각각 대체 경로로 채운다. 결과는 요청한 줄 순서대로 key 에 담긴다.
+	 */
+	public Map<String, CustomPage<LectureSearchDetailDto>> searchBatch(List<LectureSearchSpec> specs) {
+		Map<String, CustomPage<LectureSearchDetailDto>> results = new LinkedHashMap<>();
+		List<LectureSearchSpec> misses = new ArrayList<>();
+		for (LectureSearchSpec spec : specs) {
+			CustomPage<LectureSearchDetailDto> cached = lectureSearchCache.getIfPresent(spec);
+			// 캐시에 없는 줄도 자리를 먼저 잡아 두어 응답 순서를 유지한다
+			results.put(spec.key(), cached);
+			if (cached == null) {
+				misses.add(spec);
+			}
+		}
+		if (misses.isEmpty()) {
+			return results;
+		}
+
+		// key 만 다르고 조건이 같은 줄은 한 번만 검색해서 결과를 나누어 쓴다
+		Map<LectureSearchCache.Key, Integer> uniqueIndexes = new HashMap<>();
+		List<LectureSearchSpec> uniqueSpecs = new ArrayList<>();
+		List<Integer> missIndexes = new ArrayList<>();
+		for (LectureSearchSpec spec : misses) {
+			missIndexes.add(uniqueIndexes.computeIfAbsent(lectureSearchCache.key(spec), key -> {
+				uniqueSpecs.add(spec);
+				return uniqueSpecs.size() - 1;
+			}));
+		}
+
+		List<NativeQuery> queries = uniqueSpecs.stream()
+			.map(spec -> buildPageQuery(spec.page(), spec.size(), spec.category(), spec.tag(), spec.sort(), spec.query(), spec.filter()))
+			.toList();
+		Optional<List<LectureSearchClient.Result>> found = lectureSearchClient.multiSearch(queries);
+		List<CustomPage<LectureSearchDetailDto>> pages = new ArrayList<>();
+		for (int i = 0; i < uniqueSpecs.size(); i++) {
+			LectureSearchSpec spec = uniqueSpecs.get(i);
+			CustomPage<LectureSearchDetailDto> page = found.isPresent()
+				? toCustomPage(found.get().get(i), spec.page(), spec.size(), spec.sort())
+				: searchFallback(spec.page(), spec.size(), spec.category(), spec.sort(), spec.query(), spec.filter());
+			lectureSearchCache.put(spec, page);
+			pages.add(page);
+		}
+		for (int i = 0; i < misses.size(); i++) {
+			results.put(misses.get(i).key(), pages.get(missIndexes.get(i)));
+		}
+		return results;
+	}
+
+	private NativeQuery buildPageQuery(
+		int page,
+		int size,
+		String category,
+		String tag,
+		String sort,
+		String query,
+		LectureSearchFilter filter
+	) {
+		return NativeQuery.builder()
+			.withQuery(buildSearchQuery(category, tag, query, filter))
+			.withPageable(PageRequest.of(page - 1, size, getSort(sort)))
+			.withSourceFilter(SEARCH_SOURCE)
+			.withAggregation(PRESET_TAGS_AGGREGATION, presetTagsAggregation())
+			.withAggregation(PRICE_RANGES_AGGREGATION, rangeAggregation("currentPrice", PRICE_RANGES))
+			.withAggregation(RATING_RANGES_AGGREGATION, rangeAggregation("popularity", RATING_RANGES))
+			.build();
+	}
+
+	private CustomPage<LectureSearchDetailDto> toCustomPage(LectureSearchClient.Result result, int page, int size, String sort) {
+		return new CustomPage<>(
+			new PageImpl<>(toSearchDetailDtos(result.searchHits()), PageRequest.of(page - 1, size, getSort(sort)), result.totalHits()),
+			extractAggregations(result.aggregations())
+		);
+	}
+
+	/**
+	 * ES 를 쓸 수 없을 때의 대체 검색. 검색어는 강의명 접두사로, 검색어가 없으면 카테고리로 거르고 가격/평점 범위는 그대로 적용한다.
+	 * 태그 필터와 집계는 적용되지 않으며 응답에 degraded 표시를 한다.
+	 */
+	private CustomPage<LectureSearchDetailDto> searchFallback(
+		int page,
+		int size,
+		String category,
+		String sort,
+		String query,
+		LectureSearchFilter filter
+	) {
+		LectureSearchFilter range = filter != null ? filter : LectureSearchFilter.NONE;
+		String namePattern = null;
+		String categoryFilter = null;
+		if (query != null && !query.isBlank()) {
+			namePattern = query.trim().replaceAll("([\\\\%_])", "\\\\$1") + "%";
+		} else if (category != null && !category.isBlank()) {
+			categoryFilter = category;
+		}
+		Page<LectureSearchDetailDto> lectures = lectureRepository
+			.searchForFallback(namePattern, categoryFilter, range.minPrice(), range.maxPrice(), range.minRating(),
+				PageRequest.of(page - 1, size, getFallbackSort(sort)))
+			.map(LectureSearchDetailDto::of);
+		return new CustomPage<>(lectures, new HashMap<>(), true);
+	}
+
+	/**
+	 * search_after 기반 커서 검색. 정렬 끝에 lectureId 를 붙여 커서가 가리키는 위치가 하나로 정해지게 한다.
+	 * 첫 페이지는 PIT 없이 검색하고, 다음 페이지를 실제로 요청할 때 PIT 를 열어 이후 페이지를 같은 시점의 색인에서 가져온다.
+	 * ES 가 응답하지 못하면 첫 페이지는 DB 대체 검색으로, 다음 페이지는 같은 커서를 돌려주어 다시 요청하게 한다(degraded).
+	 */
+	public CursorPage<LectureSearchDetailDto> searchWithCursor(
+		String cursor,
+		int size,
+		String category,
+		String tag,
+		String sort,
+		String query,
+		LectureSearchFilter filter
+	) {
+		if (cursor == null || cursor.isBlank()) {
+			return searchFirstPage(new LectureSearchCursor(null, null, size, category, tag, sort, query, filter));
+		}
+		return searchNextPage(cursor, LectureSearchCursor.decode(cursor));
+	}
+
+	private CursorPage<LectureSearchDetailDto> searchFirstPage(LectureSearchCursor current) {
+		NativeQuery nativeQuery = cursorQueryBuilder(current, getCursorSort(current.sort()))
+			.withAggregation(PRESET_TAGS_AGGREGATION, presetTagsAggregation())
+			.withAggregation(PRICE_RANGES_AGGREGATION, rangeAggregation("currentPrice", PRICE_RANGES))
+			.withAggregation(RATING_RANGES_AGGREGATION, rangeAggregation("popularity", RATING_RANGES))
+			.build();
+		log.info("Executing NativeQuery: {}", nativeQuery);
+
+		return lectureSearchClient.searchHits(nativeQuery)
+			.map(searchHits -> toCursorPage(current, searchHits, null, extractAggregations(searchHits.getAggregations())))
+			.orElseGet(() -> {
+				CustomPage<LectureSearchDetailDto> fallback = searchFallback(1, current.size(), current.category(), current.sort(),
+					current.query(), current.filter());
+				return new CursorPage<>(fallback.getContent(), fallback.getTotalElements(), null, fallback.getAggregations(), true);
+			});
+	}
+
+	private CursorPage<LectureSearchDetailDto> searchNextPage(String cursor, LectureSearchCursor current) {
+		String pitId = current.pitId();
+		List<Object> searchAfter = current.searchAfter();
+		boolean opened = pitId == null;
+		if (opened) {
+			Optional<String> pit = lectureSearchClient.openPointInTime(PIT_KEEP_ALIVE);
+			if (pit.isEmpty()) {
+				return new CursorPage<>(List.of(), 0, cursor, null, true);
+			}
+			pitId = pit.get();
+			// PIT 검색은 정렬 끝에 _shard_doc 이 붙으므로 PIT 없이 받은 첫 페이지의 정렬값에 그 자리를 채운다.
+			// lectureId 가 같은 문서는 하나뿐이라 최댓값을 넣으면 그 문서 바로 다음부터 이어진다
+			searchAfter = new ArrayList<>(searchAfter);
+			searchAfter.add(Long.MAX_VALUE);
+		}
+
+		NativeQuery nativeQuery = cursorQueryBuilder(current, getCursorSort(current.sort()).and(Sort.by(Sort.Order.asc("_shard_doc"))))
+			.withPointInTime(new PointInTime(pitId, PIT_KEEP_ALIVE))
+			.withSearchAfter(searchAfter)
+			.build();
+		log.info("Executing NativeQuery: {}", nativeQuery);
+
+		Optional<SearchHits<LectureDocument>> found = lectureSearchClient.searchHits(nativeQuery);
+		if (found.isEmpty()) {
+			if (opened) {
+				lectureSearchClient.closePointInTime(pitId);
+			}
+			return new CursorPage<>(List.of(), 0, cursor, null, true);
+		}
+		SearchHits<LectureDocument> searchHits = found.get();
+		return toCursorPage(current, searchHits, searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pitId, null);
+	}
+
+	private NativeQueryBuilder cursorQueryBuilder(LectureSearchCursor current, Sort sort) {
+		return NativeQuery.builder()
+			.withQuery(buildSearchQuery(current.category(), current.tag(), current.query(), current.filter()))
+			.withPageable(PageRequest.of(0, current.size(), sort))
+			.withSourceFilter(SEARCH_SOURCE);
+	}
+
+	/**
+	 * 페이지가 덜 찼으면 마지막 페이지이므로 PIT 를 닫고, 아니면 마지막 정렬값으로 다음 커서를 만든다.
+	 */
+	private CursorPage<LectureSearchDetailDto> toCursorPage(LectureSearchCursor current, SearchHits<LectureDocument> searchHits,
+		String pitId, Map<String, Object> aggregations) {
+		List<SearchHit<LectureDocument>> hits = searchHits.getSearchHits();
+		String nextCursor = null;
+		if (hits.size() < current.size()) {
+			if (pitId != null) {
+				lectureSearchClient.closePointInTime(pitId);
+			}
+		} else {
+			nextCursor = current.next(pitId, hits.get(hits.size() - 1).getSortValues()).encode();
+		}
+		return new CursorPage<>(toSearchDetailDtos(hits), searchHits.getTotalHits(), nextCursor, aggregations);
+	}
+
+	/**
+	 * 자동완성. name/lecturer 의 search_as_you_type 필드(동의어 포함)에 bool_prefix 로 매칭하고,
+	 * 집계/총 개수 없이 id, name, imageUrl 만 가져온다.
+	 * 검색과 같은 서킷을 거치며, ES 의 검색 시간 제한(suggestTimeout)과 별도로 응답을 기다리는 시간(suggestDeadline)을 짧게 둔다.
+	 * 실패하거나 시간 초과 시 빈 목록을 돌려준다.
+	 */
+	public List<LectureSuggestDto> suggest(String query, int size) {
+		if (query == null || query.isBlank()) {
+			return List.of();
+		}
+		NativeQuery nativeQuery = NativeQuery.builder()
+			.withQuery(q -> q.multiMatch(m -> m
+				.query(query.trim())
+				.type(TextQueryType.BoolPrefix)
+				.fields(SUGGEST_FIELDS)))
+			.withSort(Sort.by(Sort.Order.desc("_score"), Sort.Order.desc("popularity")))
+			.withPageable(PageRequest.of(0, size))
+			.withSourceFilter(SUGGEST_SOURCE)
+			.withTrackTotalHits(false)
+			.withTimeout(suggestTimeout)
+			.build();
+		return lectureSearchClient.searchHits(nativeQuery, suggestDeadline)
+			.map(hits -> hits.getSearchHits().stream()
+				.map(hit -> LectureSuggestDto.of(hit.getContent()))
+				.toList())
+			.orElse(List.of());
+	}
+
+	private Query buildSearchQuery(String category, String tag, String query, LectureSearchFilter filter) {
 		List<Query> mustQueries = new ArrayList<>();
 		List<Query> filterQueries = new ArrayList<>();
 		List<Query> shouldQueries = new ArrayList<>();
@@ -159,6 +550,25 @@ public class LectureService {
 				.build()._toQuery());
 		}
 
+		// 범위 조건은 filter context 라 점수에 영향을 주지 않고 ES 가 결과를 캐시할 수 있다
+		if (filter != null && (filter.minPrice() != null || filter.maxPrice() != null)) {
+			filterQueries.add(RangeQuery.of(r -> r.number(n -> {
+				n.field("currentPrice");
+				if (filter.minPrice() != null) {
+					n.gte(filter.minPrice().doubleValue());
+				}
+				if (filter.maxPrice() != null) {
+					n.lte(filter.maxPrice().doubleValue());
+				}
+				return n;
+			}))._toQuery());
+		}
+		if (filter != null && filter.minRating() != null) {
+			filterQueries.add(RangeQuery.of(r -> r.number(n -> n
+				.field("popularity")
+				.gte(filter.minRating().doubleValue())))._toQuery());
+		}
+
 		BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
 		if (!mustQueries.isEmpty()) {
 			boolQueryBuilder.must(mustQueries);
@@ -172,30 +582,26 @@ public class LectureService {
 		if (mustQueries.isEmpty() && filterQueries.isEmpty()) {
 			boolQueryBuilder.must(MatchAllQuery.of(m -> m)._toQuery());
 		}
-		Query finalQuery = boolQueryBuilder.build()._toQuery();
-
-		Sort springSort = getSort(sort);
-		NativeQuery nativeQuery = NativeQuery.builder()
-			.withQuery(finalQuery)
-			.withPageable(PageRequest.of(page - 1, size, springSort))
-			.withAggregation("preset_tags", Aggregation.of(a -> a.terms(t -> t
-				.field("tags.keyword")
-				.include(TermsInclude.of(i -> i.terms(PRESET_TAGS)))
-				.size(PRESET_TAGS.size())
-			)))
-			.build();
+		return boolQueryBuilder.build()._toQuery();
+	}
 
-		log.info("Executing NativeQuery: {}", nativeQuery);
+	private Aggregation rangeAggregation(String field, List<AggregationRange> ranges) {
+		return Aggregation.of(a -> a.range(r -> r
+			.field(field)
+			.ranges(ranges)
+		));
+	}
 
-		SearchHits<LectureDocument> searchHits;
-		try {
-			searchHits = elasticsearchOperations.search(nativeQuery, LectureDocument.class);
-		} catch (Exception e) {
-			log.error("Search execution error", e);
-			throw new SearchExecutionErrorException();
-		}
+	private Aggregation presetTagsAggregation() {
+		return Aggregation.of(a -> a.terms(t -> t
+			.field("tags.keyword")
+			.include(TermsInclude.of(i -> i.terms(PRESET_TAGS)))
+			.size(PRESET_TAGS.size())
+		));
+	}
 
-		List<LectureSearchDetailDto> dtos = searchHits.getSearchHits().stream().map(hit -> {
+	private List<LectureSearchDetailDto> toSearchDetailDtos(List<SearchHit<LectureDocument>> searchHits) {
+		return searchHits.stream().map(hit -> {
 			LectureDocument doc = hit.getContent();
 			return LectureSearchDetailDto.builder()
 				.id(Long.valueOf(doc.getId()))
@@ -212,52 +618,68 @@ public class LectureService {
 				.rating((float)(Math.round(doc.getPopularity() * 10) / 10.0))
 				.build();
 		}).collect(Collectors.toList());
+	}
 
+	private Map<String, Object> extractAggregations(AggregationsContainer<?> aggregations) {
 		Map<String, Object> aggregationsMap = new HashMap<>();
-		if (searchHits.getAggregations() == null) {
+		if (aggregations == null) {
 			log.warn("Elasticsearch aggregations is null");
-		} else {
-			ElasticsearchAggregations aggs = (ElasticsearchAggregations)searchHits.getAggregations();
-			ElasticsearchAggregation tagsAgg = aggs.get("preset_tags");
+			return aggregationsMap;
+		}
+		ElasticsearchAggregations aggs = (ElasticsearchAggregations)aggregations;
+		ElasticsearchAggregation tagsAgg = aggs.get(PRESET_TAGS_AGGREGATION);
 
-			if (tagsAgg != null) {
-				Aggregate aggregate = tagsAgg.aggregation().getAggregate();
+		if (tagsAgg != null) {
+			Aggregate aggregate = tagsAgg.aggregation().getAggregate();
 
-				if (aggregate.isSterms()) {
-					StringTermsAggregate stringTerms = aggregate.sterms();
-					Map<String, Long> tagCounts = new HashMap<>();
+			if (aggregate.isSterms()) {
+				StringTermsAggregate stringTerms = aggregate.sterms();
+				Map<String, Long> tagCounts = new HashMap<>();
 
-					log.info("Aggregation raw response: {}", stringTerms);
+				log.info("Aggregation raw response: {}", stringTerms);
 
-					stringTerms.buckets().array().forEach(bucket -> {
-						log.info("Processing bucket: {}", bucket);
-						String canonicalKey = bucket.key()._get().toString();
-						long docCount = bucket.docCount();
-						String displayName = getDisplayNameFromCanonical(canonicalKey);
-						tagCounts.put(displayName, docCount);
-					});
+				stringTerms.buckets().array().forEach(bucket -> {
+					log.info("Processing bucket: {}", bucket);
+					String canonicalKey = bucket.key()._get().toString();
+					long docCount = bucket.docCount();
+					String displayName = getDisplayNameFromCanonical(canonicalKey);
+					tagCounts.put(displayName, docCount);
+				});
 
-					aggregationsMap.put("preset_tags", tagCounts);
-				}
+				aggregationsMap.put(PRESET_TAGS_AGGREGATION, tagCounts);
 			}
 		}
+		putRangeCounts(aggregationsMap, aggs, PRICE_RANGES_AGGREGATION);
+		putRangeCounts(aggregationsMap, aggs, RATING_RANGES_AGGREGATION);
+		return aggregationsMap;
+	}
 
-		return new CustomPage<>(
-			new PageImpl<>(dtos, PageRequest.of(page - 1, size, springSort), searchHits.getTotalHits()),
-			aggregationsMap
-		);
+	private void putRangeCounts(Map<String, Object> aggregationsMap, ElasticsearchAggregations aggs, String name) {
+		ElasticsearchAggregation rangeAgg = aggs.get(name);
+		if (rangeAgg == null || !rangeAgg.aggregation().getAggregate().isRange()) {
+			return;
+		}
+		// 구간 순서를 유지한다
+		Map<String, Long> counts = new LinkedHashMap<>();
+		rangeAgg.aggregation().getAggregate().range().buckets().array()
+			.forEach(bucket -> counts.put(bucket.key(), bucket.docCount()));
+		aggregationsMap.put(name, counts);
 	}
 
+	@Transactional
 	public void addLecture(CustomUserDetails userDetails, LectureCreateDto dto) {
 		userService.checkUserIsAdmin(userDetails.id());
 		try {
 			createRequestRepository.deleteBySourceUrl(dto.sourceUrl());
-			lectureRepository.save(dto.toEntity());
+			Lecture lecture = lectureRepository.save(dto.toEntity());
+			lectureCurriculumRepository.save(dto.toCurriculum(lecture.getId()));
+			lectureOutboxRepository.save(LectureOutbox.of(lecture.getId()));
 		} catch (DataIntegrityViolationException e) {
 			throw new DuplicateLectureException();
 		}
 	}
 
+	@Transactional
 	public void updateLecture(CustomUserDetails userDetails, Long id, LectureUpdateDto dto) {
 		userService.checkUserIsAdmin(userDetails.id());
 
@@ -265,20 +687,34 @@ public class LectureService {
 			.orElseThrow(LectureNotFoundException::new);
 
 		dto.updateEntity(lecture);
+		lecture.setUpdatedAt(LocalDateTime.now());
 
 		updateRequestRepository.deleteByLectureId(id);
 		lectureRepository.save(lecture);
+		lectureCurriculumRepository.save(dto.toCurriculum(id));
+		lectureOutboxRepository.save(LectureOutbox.of(id));
+		lectureDetailCache.invalidate(id);
+	}
+
+	public LectureReindexJob.Status reindex(CustomUserDetails userDetails) {
+		userService.checkUserIsAdmin(userDetails.id());
+		return lectureReindexJob.reindex();
+	}
+
+	public LectureReindexJob.Status getReindexStatus(CustomUserDetails userDetails) {
+		userService.checkUserIsAdmin(userDetails.id());
+		return lectureReindexJob.status();
+	}
+
+	public List<String> rollbackIndex(CustomUserDetails userDetails, String index) {
+		userService.checkUserIsAdmin(userDetails.id());
+		return lectureReindexJob.rollback(index);
 	}
 
 	private Sort getSort(String sort) {
-		SortType sortType;
-		try {
-			sortType = (sort == null || sort.isBlank()) ? SortType.RELEVANCE : SortType.valueOf(sort.toUpperCase());
-		} catch (IllegalArgumentException e) {
-			sortType = SortType.RELEVANCE;
-		}
-		return switch (sortType) {
+		return switch (SortType.resolve(sort)) {
 			case POPULAR -> Sort.by(Sort.Direction.DESC, "popularity");
+			case MOST_BOOKMARKED -> Sort.by(Sort.Direction.DESC, "bookmarkCnt");
 			case NEWEST -> Sort.by(Sort.Direction.DESC, "createdAt");
 			case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "currentPrice");
 			case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "currentPrice");
@@ -286,6 +722,23 @@ public class LectureService {
 		};
 	}
 
+	/**
+	 * 커서 검색의 정렬. 정렬값이 같은 문서끼리는 lectureId 로 순서를 정한다.
+	 */
+	private Sort getCursorSort(String sort) {
+		return getSort(sort).and(Sort.by(Sort.Direction.ASC, "lectureId"));
+	}
+
+	private Sort getFallbackSort(String sort) {
+		return switch (SortType.resolve(sort)) {
+			case MOST_BOOKMARKED -> Sort.by(Sort.Direction.DESC, "bookmarkCnt");
+			case NEWEST -> Sort.by(Sort.Direction.DESC, "createdAt");
+			case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "currentPrice");
+			case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "currentPrice");
+			default -> Sort.by(Sort.Direction.DESC, "reviewCnt");
+		};
+	}
+
 	public String getDisplayNameFromCanonical(String canonicalName) {
 		return Arrays.stream(TagType.values())
 			.filter(tag -> tag.getCanonicalName().equals(canonicalName))
@@ -4,6 +4,7 @@ import jakarta.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.gamee.devoot_backend.common.exception.CommonErrorCode;
 import com.gamee.devoot_backend.common.exception.DevootException;
@@ -43,12 +45,16 @@ public class LectureReviewController {
 	 * @param page
 	 * - 보여줄 리뷰 페이지 번호
 	 * @return
-	 * - 리뷰와 페이지 정보가 담긴 Page 객체
+	 * - 리뷰와 페이지 정보가 담긴 Page 객체. If-None-Match 가 현재 ETag 와 같으면 304
 	 */
 	@GetMapping("/lectures/{lectureId}")
-	public ResponseEntity<CustomPage<LectureReviewDto>> getReviewListByLectureId(@PathVariable(value = "lectureId") Long lectureId, @RequestParam(value = "page", defaultValue = "1") int page) {
+	public ResponseEntity<CustomPage<LectureReviewDto>> getReviewListByLectureId(@PathVariable(value = "lectureId") Long lectureId, @RequestParam(value = "page", defaultValue = "1") int page,
+		WebRequest request) {
+		if (request.checkNotModified(lectureReviewService.getLectureReviewListEtag(lectureId, page))) {
+			return null;
+		}
 		Page<LectureReviewDto> lectureReviewDtoPage = lectureReviewService.getLectureReviewList(lectureId, page);
-		return ResponseEntity.status(HttpStatus.OK).body(new CustomPage<>(lectureReviewDtoPage));
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(new CustomPage<>(lectureReviewDtoPage));
 	}
 
 	@GetMapping("/lectures/{lectureId}/my-review")
@@ -32,6 +32,17 @@ public interface LectureReviewRepository extends JpaRepository<LectureReview, Lo
 		""")
 	Page<LectureReviewDto> selectAllByUserId(@Param("userId") long userId, Pageable pageable);
 
+	/**
+	 * 강의 리뷰 작성자들의 profileVersion 합. 작성자 중 누구라도 프로필을 바꾸면 커진다.
+	 */
+	@Query("""
+		SELECT COALESCE(SUM(u.profileVersion), 0)
+		FROM LectureReview lr
+		JOIN lr.user u
+		WHERE lr.lectureId = :lectureId
+		""")
+	long sumReviewerProfileVersionByLectureId(@Param("lectureId") long lectureId);
+
 	Optional<LectureReview> findByUserIdAndLectureId(@Param("userId") long userId, @Param("lectureId") long lectureId);
 
 	void deleteByUserId(long userId);
@@ -9,10 +9,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gamee.devoot_backend.common.Util;
 import com.gamee.devoot_backend.common.pageutils.PageSizeDefine;
 import com.gamee.devoot_backend.follow.repository.FollowRepository;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
 import com.gamee.devoot_backend.lecture.exception.LectureNotFoundException;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.lecturereview.dto.LectureReviewDto;
 import com.gamee.devoot_backend.lecturereview.entity.LectureReview;
@@ -42,6 +45,8 @@ public class LectureReviewService {
 	@Autowired
 	private LectureRepository lectureRepository;
 	@Autowired
+	private LectureOutboxRepository lectureOutboxRepository;
+	@Autowired
 	private UserService userService;
 
 	/**
@@ -58,6 +63,18 @@ public class LectureReviewService {
 		return lectureReviewRepository.selectAllByLectureId(lectureId, pageable);
 	}
 
+	/**
+	 * 강의 리뷰 목록의 ETag. 리뷰가 추가/수정/삭제될 때 오르는 reviewVersion, 강의 정보(updatedAt),
+	 * 작성자 프로필(닉네임, 이미지, profileId) 버전의 합으로 만든다.
+	 * 없는 강의면 null 을 돌려주며, 이때는 조건부 확인 없이 빈 목록을 응답한다.
+	 */
+	public String getLectureReviewListEtag(long lectureId, int page) {
+		return lectureRepository.findVersionById(lectureId)
+			.map(version -> Util.etag(lectureId, version.reviewVersion(), version.updatedAt(),
+				lectureReviewRepository.sumReviewerProfileVersionByLectureId(lectureId), page))
+			.orElse(null);
+	}
+
 	public Page<LectureReviewDto> getLectureReviewByProfileId(String profileId, int page, long currentUserId) {
 		Pageable pageable = PageRequest.of(page - 1, PageSizeDefine.REVIEW_PROFILE);
 		Optional<User> userOptional = userRepository.findByProfileId(profileId);
@@ -87,6 +104,7 @@ public class LectureReviewService {
 		return null;
 	}
 
+	@Transactional
 	public void saveLectureReview(long userId, long lectureId, float rating, String content) {
 		lectureRepository.findById(lectureId)
 			.orElseThrow(LectureNotFoundException::new);
@@ -104,18 +122,22 @@ public class LectureReviewService {
 			.build();
 		lectureReviewRepository.save(lectureReview);
 		lectureRepository.incrementReviewStats(lectureId, rating);
+		lectureOutboxRepository.save(LectureOutbox.statsOf(lectureId));
 	}
 
+	@Transactional
 	public void updateLectureReview(long userId, long id, float rating, String content) {
 		LectureReview review = checkUserIsAllowedAndFetchReview(userId, id);
 
 		lectureRepository.updateReviewStats(review.getLectureId(), review.getRating(), rating);
+		lectureOutboxRepository.save(LectureOutbox.statsOf(review.getLectureId()));
 
 		review.setRating(rating);
 		review.setContent(content);
 		lectureReviewRepository.save(review);
 	}
 
+	@Transactional
 	public void deleteLectureReview(long id, long userId) {
 		Optional<LectureReview> reviewOptional = lectureReviewRepository.findById(id);
 		LectureReview review;
@@ -125,6 +147,7 @@ public class LectureReviewService {
 				lectureReviewReportRepository.deleteByLectureReviewId(id);
 				lectureReviewRepository.deleteById(id);
 				lectureRepository.decrementReviewStats(review.getLectureId(), review.getRating());
+				lectureOutboxRepository.save(LectureOutbox.statsOf(review.getLectureId()));
 			} else {
 				throw new ReviewPermissionDeniedException();
 			}
@@ -161,6 +184,7 @@ public class LectureReviewService {
 		Page<LectureReviewDto> reviews = lectureReviewRepository.selectAllByUserId(user.getId(), Pageable.ofSize(9999999));
 		for (LectureReviewDto review : reviews.getContent()) {
 			lectureRepository.decrementReviewStats(review.lectureId(), review.rating());
+			lectureOutboxRepository.save(LectureOutbox.statsOf(review.lectureId()));
 		}
 		lectureReviewReportRepository.deleteByUserId(user.getId());
 		lectureReviewRepository.deleteByUserId(user.getId());
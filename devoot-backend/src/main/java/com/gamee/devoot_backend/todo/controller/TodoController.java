@@ -5,6 +5,7 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.gamee.devoot_backend.todo.dto.TodoContributionDetailDto;
 import com.gamee.devoot_backend.todo.dto.TodoCreateDto;
@@ -33,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Validated
 public class TodoController {
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 	private final TodoService todoService;
 
 	@PostMapping
@@ -57,18 +60,26 @@ public class TodoController {
 	public ResponseEntity<?> getTodos(
 		@AuthenticationPrincipal CustomUserDetails user,
 		@PathVariable String profileId,
-		@RequestParam(value = "date", required = true) LocalDate date) {
+		@RequestParam(value = "date", required = true) LocalDate date,
+		WebRequest request) {
+		if (request.checkNotModified(todoService.getTodosEtag(user, profileId, date))) {
+			return null;
+		}
 		List<TodoDetailDto> todos = todoService.getTodosOf(user, profileId, date);
-		return ResponseEntity.ok().body(todos);
+		return ResponseEntity.ok().cacheControl(REVALIDATE).body(todos);
 	}
 
 	@GetMapping("/contributions")
 	public ResponseEntity<?> getContributions(
 		@AuthenticationPrincipal CustomUserDetails user,
 		@PathVariable String profileId,
-		@RequestParam(value = "year", required = true) Integer year) {
+		@RequestParam(value = "year", required = true) Integer year,
+		WebRequest request) {
+		if (request.checkNotModified(todoService.getTodosEtag(user, profileId, year))) {
+			return null;
+		}
 		List<TodoContributionDetailDto> todoContributions = todoService.getTodoContributionsOf(user, profileId, year);
-		return ResponseEntity.ok().body(todoContributions);
+		return ResponseEntity.ok().cacheControl(REVALIDATE).body(todoContributions);
 	}
 
 	@PatchMapping("/{todoId}/status")
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gamee.devoot_backend.bookmark.repository.BookmarkRepository;
+import com.gamee.devoot_backend.common.Util;
 import com.gamee.devoot_backend.follow.service.FollowService;
 import com.gamee.devoot_backend.todo.dto.TodoContributionDetailDto;
 import com.gamee.devoot_backend.todo.dto.TodoCreateDto;
@@ -54,6 +55,7 @@ public class TodoService {
 				});
 
 		todoRepository.save(newTodo);
+		userService.increaseTodoVersion(user.id());
 	}
 
 	@Transactional
@@ -92,6 +94,16 @@ public class TodoService {
 			});
 
 		todoRepository.updateUnfinishedTodosToNextDay(user.id(), date, nextDay);
+		userService.increaseTodoVersion(user.id());
+	}
+
+	/**
+	 * 할 일 목록/잔디의 ETag. 접근 확인과 함께 읽은 사용자의 todoVersion 으로 만들므로 할 일을 읽기 전에 304 를 판단할 수 있다.
+	 * key 는 응답을 구분하는 요청 값(날짜, 연도)이다.
+	 */
+	public String getTodosEtag(CustomUserDetails user, String profileId, Object key) {
+		User followedUser = followService.validateAccessAndFetchFollowedUser(user, profileId);
+		return Util.etag(followedUser.getId(), followedUser.getTodoVersion(), key);
 	}
 
 	public List<TodoDetailDto> getTodosOf(CustomUserDetails user, String profileId, LocalDate date) {
@@ -154,6 +166,7 @@ public class TodoService {
 		todo.setFinished(newFinisehd);
 
 		todoRepository.save(todo);
+		userService.increaseTodoVersion(user.id());
 
 		// update contribution
 		if (!beforeFinished && newFinisehd) {
@@ -185,6 +198,7 @@ public class TodoService {
 				todoRepository.save(beforeTodo);
 			});
 		todoRepository.delete(todo);
+		userService.increaseTodoVersion(user.id());
 	}
 
 	private void addTodosInOrder(Todo startTodo, Map<Long, Todo> todoMap, List<Todo> todos) {
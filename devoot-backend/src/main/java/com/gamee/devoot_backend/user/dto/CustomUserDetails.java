@@ -1,11 +1,13 @@
 package com.gamee.devoot_backend.user.dto;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.gamee.devoot_backend.user.entity.User;
+import com.gamee.devoot_backend.user.service.AdminRegistry;
 
 import lombok.Builder;
 
@@ -18,7 +20,8 @@ public record CustomUserDetails(
 	String links,
 	Boolean isPublic,
 	String imageUrl,
-	String tags
+	String tags,
+	boolean admin
 ) implements UserDetails {
 
 	public CustomUserDetails(User user) {
@@ -30,13 +33,21 @@ public record CustomUserDetails(
 			user.getLinks(),
 			user.getIsPublic(),
 			user.getImageUrl(),
-			user.getTags()
+			user.getTags(),
+			false
 		);
 	}
 
+	public CustomUserDetails withAdmin(boolean admin) {
+		if (this.admin == admin) {
+			return this;
+		}
+		return new CustomUserDetails(id, email, profileId, nickname, links, isPublic, imageUrl, tags, admin);
+	}
+
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return null;
+		return admin ? AdminRegistry.ADMIN_AUTHORITIES : List.of();
 	}
 
 	@Override
@@ -54,4 +54,15 @@ public class User {
 
 	@Builder.Default
 	private LocalDateTime createdAt = LocalDateTime.now();
+
+	// 북마크 보드/할 일이 바뀔 때마다 올라간다. 조건부 GET 의 ETag 에 쓰며, 엔티티 저장으로는 바뀌지 않는다
+	@Column(columnDefinition = "int default 0", insertable = false, updatable = false)
+	private Integer bookmarkVersion;
+
+	@Column(columnDefinition = "int default 0", insertable = false, updatable = false)
+	private Integer todoVersion;
+
+	// 닉네임/이미지/profileId 가 바뀔 때마다 올라간다. 리뷰 목록의 ETag 에 쓴다
+	@Column(columnDefinition = "int default 0", insertable = false, updatable = false)
+	private Integer profileVersion;
 }
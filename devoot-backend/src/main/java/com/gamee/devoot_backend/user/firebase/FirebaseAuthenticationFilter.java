@@ -16,8 +16,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
-import com.gamee.devoot_backend.user.entity.User;
 import com.gamee.devoot_backend.user.exception.UserErrorCode;
+import com.gamee.devoot_backend.user.service.AdminRegistry;
 import com.gamee.devoot_backend.user.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 	private final UserService userService;
 	private final FirebaseService firebaseService;
+	private final UserPrincipalCache userPrincipalCache;
+	private final AdminRegistry adminRegistry;
 
 	@Override
 	protected void doFilterInternal(
@@ -38,8 +40,7 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 		String method = request.getMethod();
 		String authorizationHeader = request.getHeader("Authorization");
 
-		if ("/api/users/register".equals(requestUri)
-			|| "/api/users/check-profile-id".equals(requestUri)) {
+		if (PublicRoutes.isTokenOnly(requestUri)) {
 			if (!isValidFirebaseToken(authorizationHeader)) {
 				writeJsonError(response, UserErrorCode.USER_INVALID_TOKEN, "No or invalid token for register");
 				return;
@@ -55,26 +56,7 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 			return;
 		}
 		// Token이 없어도 접근 가능한 API
-		if (authorizationHeader == null && "GET".equalsIgnoreCase(method)
-			&& (requestUri.matches("^/api/lectures/\\d+") || requestUri.matches("^/api/lectures/search/*") || requestUri.matches("^/api/reviews/lectures/\\d+"))) {
-			filterChain.doFilter(request, response);
-			return;
-		}
-		// Token이 없어도 접근 가능한 API
-		if (authorizationHeader == null && "GET".equalsIgnoreCase(method)
-			&& (requestUri.matches("^/api/lectures/\\d+") || requestUri.matches("^/api/lectures/search/*") || requestUri.matches("^/api/reviews/lectures/\\d+"))) {
-			filterChain.doFilter(request, response);
-			return;
-		}
-		// Token이 없어도 접근 가능한 API
-		if (authorizationHeader == null && "GET".equalsIgnoreCase(method)
-			&& (requestUri.matches("^/api/lectures/\\d+") || requestUri.matches("^/api/lectures/search/*") || requestUri.matches("^/api/reviews/lectures/\\d+"))) {
-			filterChain.doFilter(request, response);
-			return;
-		}
-		// Token이 없어도 접근 가능한 API
-		if (authorizationHeader == null && "GET".equalsIgnoreCase(method)
-			&& (requestUri.matches("^/api/lectures/\\d+") || requestUri.matches("^/api/lectures/search/*") || requestUri.matches("^/api/reviews/lectures/\\d+"))) {
+		if (authorizationHeader == null && PublicRoutes.isAnonymous(method, requestUri)) {
 			filterChain.doFilter(request, response);
 			return;
 		}
@@ -82,10 +64,10 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 		if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
 			try {
 				FirebaseService.DecodedToken decodedToken = firebaseService.parseToken(authorizationHeader);
-				Optional<User> userOpt = firebaseService.findUserByUid(decodedToken.uid());
-				if (userOpt.isPresent()) {
-					User user = userOpt.get();
-					CustomUserDetails userDetails = new CustomUserDetails(user);
+				Optional<CustomUserDetails> userDetailsOpt = userPrincipalCache.get(decodedToken.uid(), firebaseService::findUserByUid);
+				if (userDetailsOpt.isPresent()) {
+					CustomUserDetails userDetails = userDetailsOpt.get();
+					userDetails = userDetails.withAdmin(adminRegistry.isAdmin(userDetails.id()));
 					UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 					SecurityContextHolder.getContext().setAuthentication(authToken);
 				} else {
@@ -0,0 +1,21 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Firebase ID 토큰 서명 검증에 사용할 공개키(kid -> PublicKey) 공급원.
+ * 운영에서는 Google JWKS, 테스트에서는 로컬 키쌍을 사용한다.
+ */
+public interface FirebaseKeySource {
+	KeySet fetch() throws IOException;
+
+	/**
+	 * @param maxAge
+	 * 		키 목록을 캐시해도 되는 기간 (Cache-Control max-age).
+	 */
+	record KeySet(Map<String, PublicKey> keys, Duration maxAge) {
+	}
+}
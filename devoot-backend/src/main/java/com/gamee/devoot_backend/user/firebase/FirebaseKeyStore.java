@@ -0,0 +1,106 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Firebase 공개키 캐시.
+ * 키 목록이 만료되기 전에 백그라운드 스레드가 미리 갱신하므로, 요청 스레드는 보통 키 조회만 한다.
+ */
+@Component
+@Slf4j
+public class FirebaseKeyStore {
+	private static final Duration MIN_FETCH_INTERVAL = Duration.ofSeconds(30);
+	private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+	private static final double REFRESH_RATIO = 0.8;
+
+	private final FirebaseKeySource keySource;
+	private final ReentrantLock fetchLock = new ReentrantLock();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "firebase-key-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile FirebaseKeySource.KeySet keySet;
+	private volatile Instant lastFetchAttempt = Instant.EPOCH;
+
+	public FirebaseKeyStore(FirebaseKeySource keySource) {
+		this.keySource = keySource;
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler.execute(this::refreshAndReschedule);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * kid 에 해당하는 공개키를 반환한다. 모르는 kid 면(키 교체 직후) 한 번 즉시 갱신을 시도한다.
+	 */
+	public PublicKey getKey(String kid) {
+		FirebaseKeySource.KeySet current = keySet;
+		if (current == null || !current.keys().containsKey(kid)) {
+			current = fetchIfAllowed();
+		}
+		return current != null ? current.keys().get(kid) : null;
+	}
+
+	private FirebaseKeySource.KeySet fetchIfAllowed() {
+		fetchLock.lock();
+		try {
+			if (Duration.between(lastFetchAttempt, Instant.now()).compareTo(MIN_FETCH_INTERVAL) >= 0) {
+				fetch();
+			}
+		} catch (Exception e) {
+			log.warn("Failed to fetch Firebase public keys", e);
+		} finally {
+			fetchLock.unlock();
+		}
+		return keySet;
+	}
+
+	private void fetch() throws Exception {
+		fetchLock.lock();
+		try {
+			lastFetchAttempt = Instant.now();
+			keySet = keySource.fetch();
+			log.debug("Fetched {} Firebase public keys (max-age {})", keySet.keys().size(), keySet.maxAge());
+		} finally {
+			fetchLock.unlock();
+		}
+	}
+
+	private void refreshAndReschedule() {
+		Duration delay;
+		try {
+			fetch();
+			delay = Duration.ofMillis((long)(keySet.maxAge().toMillis() * REFRESH_RATIO));
+			if (delay.compareTo(MIN_FETCH_INTERVAL) < 0) {
+				delay = MIN_FETCH_INTERVAL;
+			}
+		} catch (Exception e) {
+			log.warn("Failed to refresh Firebase public keys, retrying in {}", RETRY_DELAY, e);
+			delay = RETRY_DELAY;
+		}
+		if (!scheduler.isShutdown()) {
+			scheduler.schedule(this::refreshAndReschedule, delay.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+}
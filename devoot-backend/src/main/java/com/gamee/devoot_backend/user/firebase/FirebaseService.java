@@ -4,14 +4,9 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
-import com.gamee.devoot_backend.common.exception.DevootException;
 import com.gamee.devoot_backend.user.entity.User;
-import com.gamee.devoot_backend.user.exception.UserErrorCode;
 import com.gamee.devoot_backend.user.exception.UserInvalidTokenException;
 import com.gamee.devoot_backend.user.repository.UserRepository;
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,7 +15,9 @@ import lombok.RequiredArgsConstructor;
 public class FirebaseService {
 	private final UserRepository userRepository;
 
-	private final FirebaseAuth firebaseAuth;
+	private final FirebaseTokenVerifier firebaseTokenVerifier;
+
+	private final FirebaseTokenCache firebaseTokenCache;
 
 	public Optional<User> findUserByUid(String uid) {
 		return userRepository.findByUid(uid);
@@ -32,17 +29,14 @@ public class FirebaseService {
 		}
 
 		String token = authorizationHeader.substring(7);
-		try {
-			FirebaseToken firebaseToken = firebaseAuth.verifyIdToken(token);
-			String uid = firebaseToken.getUid();
-			String email = (String)firebaseToken.getClaims().get("email");
-			return new DecodedToken(uid, email);
-		} catch (FirebaseAuthException e) {
-			throw new DevootException(
-				UserErrorCode.fromFirebaseErrorCode(e.getAuthErrorCode() != null ? e.getAuthErrorCode().name() : null),
-				e.getMessage()
-			);
+		DecodedToken cached = firebaseTokenCache.getIfPresent(token);
+		if (cached != null) {
+			return cached;
 		}
+		FirebaseTokenVerifier.VerifiedToken verifiedToken = firebaseTokenVerifier.verify(token);
+		DecodedToken decodedToken = new DecodedToken(verifiedToken.uid(), verifiedToken.email());
+		firebaseTokenCache.put(token, decodedToken, verifiedToken.expiresAt());
+		return decodedToken;
 	}
 
 	public record DecodedToken(String uid, String email) {
@@ -0,0 +1,77 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증이 끝난 Firebase ID 토큰을 토큰 만료 시각까지 보관하는 캐시.
+ * 같은 토큰으로 들어오는 요청은 서명 검증(verifyIdToken)을 다시 하지 않는다.
+ */
+@Component
+public class FirebaseTokenCache {
+	private static final Duration MAX_TTL = Duration.ofHours(1);
+
+	private final Cache<String, CachedToken> cache;
+
+	public FirebaseTokenCache(
+		@Value("${firebase.token-cache.maximum-size:10000}") long maximumSize,
+		MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new TokenExpiry())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "firebaseTokens");
+	}
+
+	public FirebaseService.DecodedToken getIfPresent(String token) {
+		CachedToken cached = cache.getIfPresent(token);
+		return cached != null ? cached.decodedToken() : null;
+	}
+
+	/**
+	 * @param expiresAt
+	 * 		토큰의 exp 클레임. 이미 지난 시각이면 캐시에 넣지 않는다.
+	 */
+	public void put(String token, FirebaseService.DecodedToken decodedToken, Instant expiresAt) {
+		if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+			return;
+		}
+		cache.put(token, new CachedToken(decodedToken, expiresAt));
+	}
+
+	private record CachedToken(FirebaseService.DecodedToken decodedToken, Instant expiresAt) {
+	}
+
+	private static class TokenExpiry implements Expiry<String, CachedToken> {
+		@Override
+		public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+			Duration ttl = Duration.between(Instant.now(), value.expiresAt());
+			if (ttl.isNegative()) {
+				return 0;
+			}
+			return (ttl.compareTo(MAX_TTL) > 0 ? MAX_TTL : ttl).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gamee.devoot_backend.common.Util;
+import com.gamee.devoot_backend.user.exception.UserAuthenticationFailedException;
+import com.gamee.devoot_backend.user.exception.UserInvalidTokenException;
+import com.gamee.devoot_backend.user.exception.UserTokenExpiredException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Firebase ID 토큰(RS256 JWT) 로컬 검증기.
+ * Admin SDK 의 verifyIdToken 과 같은 규칙(서명, aud, iss, exp, iat, sub)을 확인한다.
+ */
+public class FirebaseTokenVerifier {
+	private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+	private static final long CLOCK_SKEW_SECONDS = 300;
+
+	private final FirebaseKeyStore keyStore;
+	private final String projectId;
+	private final String issuer;
+	private final Clock clock;
+	private final Timer verifyTimer;
+
+	public FirebaseTokenVerifier(FirebaseKeyStore keyStore, String projectId, Clock clock, MeterRegistry meterRegistry) {
+		this.keyStore = keyStore;
+		this.projectId = projectId;
+		this.issuer = ISSUER_PREFIX + projectId;
+		this.clock = clock;
+		this.verifyTimer = Timer.builder("firebase.token.verify")
+			.description("Firebase ID token signature and claim verification")
+			.register(meterRegistry);
+	}
+
+	public VerifiedToken verify(String token) {
+		return verifyTimer.record(() -> doVerify(token));
+	}
+
+	private VerifiedToken doVerify(String token) {
+		String[] parts = token.split("\\.");
+		if (parts.length != 3) {
+			throw new UserInvalidTokenException();
+		}
+		JsonNode header = decodeJson(parts[0]);
+		JsonNode payload = decodeJson(parts[1]);
+
+		if (!"RS256".equals(header.path("alg").asText())) {
+			throw new UserInvalidTokenException();
+		}
+		PublicKey key = keyStore.getKey(header.path("kid").asText());
+		if (key == null) {
+			throw new UserAuthenticationFailedException();
+		}
+		if (!isSignatureValid(key, parts)) {
+			throw new UserInvalidTokenException();
+		}
+
+		long now = Instant.now(clock).getEpochSecond();
+		long exp = payload.path("exp").asLong(0);
+		String subject = payload.path("sub").asText("");
+		if (!projectId.equals(payload.path("aud").asText())
+			|| !issuer.equals(payload.path("iss").asText())
+			|| subject.isEmpty() || subject.length() > 128
+			|| payload.path("iat").asLong(Long.MAX_VALUE) > now + CLOCK_SKEW_SECONDS
+			|| payload.path("auth_time").asLong(Long.MAX_VALUE) > now + CLOCK_SKEW_SECONDS) {
+			throw new UserInvalidTokenException();
+		}
+		if (exp + CLOCK_SKEW_SECONDS <= now) {
+			throw new UserTokenExpiredException();
+		}
+
+		JsonNode email = payload.get("email");
+		return new VerifiedToken(subject, email != null ? email.asText() : null, Instant.ofEpochSecond(exp));
+	}
+
+	private boolean isSignatureValid(PublicKey key, String[] parts) {
+		try {
+			Signature signature = Signature.getInstance("SHA256withRSA");
+			signature.initVerify(key);
+			signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+			return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private JsonNode decodeJson(String part) {
+		try {
+			return Util.objectMapper.readTree(Base64.getUrlDecoder().decode(part));
+		} catch (Exception e) {
+			throw new UserInvalidTokenException();
+		}
+	}
+
+	public record VerifiedToken(String uid, String email, Instant expiresAt) {
+	}
+}
@@ -0,0 +1,95 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gamee.devoot_backend.common.Util;
+
+/**
+ * Google 이 공개하는 securetoken JWKS 에서 RSA 공개키를 가져온다.
+ */
+public class JwksKeySource implements FirebaseKeySource {
+	public static final String FIREBASE_JWKS_URL =
+		"https://www.googleapis.com/service_accounts/v1/jwk/securetoken@system.gserviceaccount.com";
+
+	private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+	private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+	private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+	private final URI uri;
+	private final HttpClient httpClient;
+
+	public JwksKeySource(String url) {
+		this.uri = URI.create(url);
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(TIMEOUT)
+			.build();
+	}
+
+	@Override
+	public KeySet fetch() throws IOException {
+		HttpRequest request = HttpRequest.newBuilder(uri)
+			.timeout(TIMEOUT)
+			.GET()
+			.build();
+		HttpResponse<String> response;
+		try {
+			response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while fetching JWKS", e);
+		}
+		if (response.statusCode() != 200) {
+			throw new IOException("Unexpected JWKS response status: " + response.statusCode());
+		}
+
+		Map<String, PublicKey> keys = new HashMap<>();
+		JsonNode root = Util.objectMapper.readTree(response.body());
+		for (JsonNode jwk : root.path("keys")) {
+			if (!"RSA".equals(jwk.path("kty").asText())) {
+				continue;
+			}
+			keys.put(jwk.path("kid").asText(), toPublicKey(jwk.path("n").asText(), jwk.path("e").asText()));
+		}
+		if (keys.isEmpty()) {
+			throw new IOException("JWKS response contains no RSA keys");
+		}
+		return new KeySet(Map.copyOf(keys), parseMaxAge(response.headers().firstValue("Cache-Control").orElse(null)));
+	}
+
+	private PublicKey toPublicKey(String modulus, String exponent) throws IOException {
+		Base64.Decoder decoder = Base64.getUrlDecoder();
+		RSAPublicKeySpec spec = new RSAPublicKeySpec(
+			new BigInteger(1, decoder.decode(modulus)),
+			new BigInteger(1, decoder.decode(exponent))
+		);
+		try {
+			return KeyFactory.getInstance("RSA").generatePublic(spec);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Invalid RSA key in JWKS", e);
+		}
+	}
+
+	static Duration parseMaxAge(String cacheControl) {
+		if (cacheControl == null) {
+			return DEFAULT_MAX_AGE;
+		}
+		Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+		return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_MAX_AGE;
+	}
+}
@@ -0,0 +1,53 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록.
+ * FirebaseAuthenticationFilter 와 SecurityConfig 가 같은 테이블을 사용한다.
+ */
+public final class PublicRoutes {
+	private static final String API_PREFIX = "/api/";
+
+	// Firebase 토큰은 필요하지만 가입된 사용자는 필요 없는 경로
+	private static final Set<String> TOKEN_ONLY_PATHS = Set.of(
+		"/api/users/register",
+		"/api/users/check-profile-id"
+	);
+
+	// 토큰 없이 GET 으로 접근 가능한 경로
+	private static final Pattern ANONYMOUS_GET_PATTERN = Pattern.compile(
+		"/api/(?:lectures(?:/(?:\\d+|search(?:/cursor)?/*|suggest))?|reviews/lectures/\\d+)"
+	);
+
+	// 본문으로 조건을 받는 조회 전용 POST 경로
+	private static final Set<String> ANONYMOUS_POST_PATHS = Set.of(
+		"/api/lectures/search/batch"
+	);
+
+	public static final RequestMatcher TOKEN_ONLY_MATCHER = request -> isTokenOnly(request.getRequestURI());
+
+	public static final RequestMatcher ANONYMOUS_MATCHER = request -> isAnonymous(request.getMethod(), request.getRequestURI());
+
+	private PublicRoutes() {
+	}
+
+	public static boolean isTokenOnly(String requestUri) {
+		return TOKEN_ONLY_PATHS.contains(requestUri);
+	}
+
+	public static boolean isAnonymous(String method, String requestUri) {
+		return isAnonymousGet(method, requestUri)
+			|| "POST".equalsIgnoreCase(method) && ANONYMOUS_POST_PATHS.contains(requestUri);
+	}
+
+	public static boolean isAnonymousGet(String method, String requestUri) {
+		return "GET".equalsIgnoreCase(method)
+			&& requestUri != null
+			&& requestUri.startsWith(API_PREFIX)
+			&& ANONYMOUS_GET_PATTERN.matcher(requestUri).matches();
+	}
+}
@@ -0,0 +1,70 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gamee.devoot_backend.user.dto.CustomUserDetails;
+import com.gamee.devoot_backend.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Firebase uid -> 인증 주체(CustomUserDetails) 캐시.
+ * 사용자 정보가 바뀌면 UserService 에서 evict 해야 한다.
+ * 캐시는 인스턴스마다 따로 있으므로 evict 는 변경을 처리한 인스턴스에만 반영되고, 다른 인스턴스에서는 ttl 동안 이전 값(profileId, isPublic 등)이 보일 수 있다.
+ * checkUserMatchesProfileId 처럼 캐시된 profileId 를 쓰는 검사도 그동안은 이전 값을 기준으로 하므로 ttl 을 짧게 둔다.
+ */
+@Component
+public class UserPrincipalCache {
+	private final Cache<String, CustomUserDetails> cache;
+
+	public UserPrincipalCache(
+		@Value("${firebase.principal-cache.maximum-size:10000}") long maximumSize,
+		@Value("${firebase.principal-cache.ttl:1m}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "userPrincipals");
+	}
+
+	/**
+	 * 캐시에 없으면 loader 로 사용자를 조회한다. 존재하지 않는 사용자는 캐시하지 않는다.
+	 */
+	public Optional<CustomUserDetails> get(String uid, Function<String, Optional<User>> loader) {
+		return Optional.ofNullable(cache.get(uid, key -> loader.apply(key)
+			.map(CustomUserDetails::new)
+			.orElse(null)));
+	}
+
+	/**
+	 * 트랜잭션 안에서 부르면 커밋된 뒤에 비운다. 커밋 전에 비우면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있다.
+	 */
+	public void evict(String uid) {
+		if (uid == null) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			cache.invalidate(uid);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				cache.invalidate(uid);
+			}
+		});
+	}
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.gamee.devoot_backend.user.entity.Admin;
@@ -50,13 +51,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<String> isFollowing(Long followerId, Long followedId);
 
 	@Query("""
-		SELECT EXISTS (
-			SELECT 1
-			FROM Admin a
-			WHERE a.userId = :userId
-		)
+		SELECT a.userId
+		FROM Admin a
 		""")
-	Boolean isAdmin(Long userId);
+	List<Long> findAllAdminUserIds();
 
 	@Query("""
 		SELECT a
@@ -74,4 +72,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 		HAVING COUNT(r.id) > 3
 		""")
 	Page<User> findReportedUsers(Long userId, Pageable pageable);
+
+	@Modifying
+	@Query("UPDATE User u SET u.bookmarkVersion = u.bookmarkVersion + 1 WHERE u.id = :id")
+	void incrementBookmarkVersion(Long id);
+
+	@Modifying
+	@Query("UPDATE User u SET u.todoVersion = u.todoVersion + 1 WHERE u.id = :id")
+	void incrementTodoVersion(Long id);
+
+	@Modifying
+	@Query("UPDATE User u SET u.profileVersion = u.profileVersion + 1 WHERE u.id = :id")
+	void incrementProfileVersion(Long id);
+
+	@Query("SELECT u.bookmarkVersion FROM User u WHERE u.id = :id")
+	Integer findBookmarkVersionById(Long id);
 }
@@ -0,0 +1,54 @@
+package com.gamee.devoot_backend.user.service;
+
+import java.util.List;
+import java.util.Set;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.gamee.devoot_backend.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin 테이블의 사용자 id 를 메모리에 들고 있는 레지스트리.
+ * 관리자 여부 확인 시 DB 조회 없이 불변 Set 만 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminRegistry {
+	public static final String ROLE_ADMIN = "ROLE_ADMIN";
+	public static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority(ROLE_ADMIN));
+
+	private final UserRepository userRepository;
+
+	private volatile Set<Long> adminIds = Set.of();
+
+	@PostConstruct
+	public void init() {
+		refresh();
+	}
+
+	/**
+	 * 관리자 목록을 다시 읽어 교체한다. 관리자가 바뀌는 곳에서 직접 호출할 수도 있다.
+	 */
+	@Scheduled(fixedDelayString = "${admin.registry.refresh-interval:60000}", initialDelayString = "${admin.registry.refresh-interval:60000}")
+	public void refresh() {
+		try {
+			adminIds = Set.copyOf(userRepository.findAllAdminUserIds());
+			log.debug("Loaded {} admin ids", adminIds.size());
+		} catch (Exception e) {
+			log.warn("Failed to refresh admin registry, keeping {} cached admin ids", adminIds.size(), e);
+		}
+	}
+
+	public boolean isAdmin(Long userId) {
+		return userId != null && adminIds.contains(userId);
+	}
+}
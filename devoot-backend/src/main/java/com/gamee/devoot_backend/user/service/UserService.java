@@ -25,6 +25,7 @@ import com.gamee.devoot_backend.user.exception.UserNotAdminException;
 import com.gamee.devoot_backend.user.exception.UserNotFoundException;
 import com.gamee.devoot_backend.user.exception.UserProfileIdAlreadyExistsException;
 import com.gamee.devoot_backend.user.exception.UserProfileIdMismatchException;
+import com.gamee.devoot_backend.user.firebase.UserPrincipalCache;
 import com.gamee.devoot_backend.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,8 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final FollowRepository followRepository;
 	private final S3Service s3Service;
+	private final UserPrincipalCache userPrincipalCache;
+	private final AdminRegistry adminRegistry;
 
 	public boolean existsUserByUid(String uid) {
 		return userRepository.existsByUid(uid);
@@ -134,7 +137,11 @@ public class UserService {
 		}
 
 		userUpdateDto.toEntity(user);
-		return userRepository.save(user);
+		User savedUser = userRepository.save(user);
+		// 리뷰 목록에 보이는 작성자 정보가 바뀌었을 수 있다
+		userRepository.incrementProfileVersion(userId);
+		userPrincipalCache.evict(savedUser.getUid());
+		return savedUser;
 	}
 
 	public void checkUserMatchesProfileId(CustomUserDetails user, String profileId) {
@@ -160,7 +167,7 @@ public class UserService {
 	}
 
 	public void checkUserIsAdmin(Long userId) {
-		if (!userRepository.isAdmin(userId)) {
+		if (!adminRegistry.isAdmin(userId)) {
 			throw new UserNotAdminException();
 		}
 	}
@@ -183,4 +190,23 @@ public class UserService {
 			.orElseThrow(UserNotFoundException::new);
 		return user;
 	}
+
+	/**
+	 * 북마크 보드가 바뀌는 트랜잭션 안에서 호출한다. 북마크 보드와 강의 상세의 ETag 가 이 값으로 바뀐다.
+	 */
+	public void increaseBookmarkVersion(Long userId) {
+		userRepository.incrementBookmarkVersion(userId);
+	}
+
+	/**
+	 * 할 일/잔디가 바뀌는 트랜잭션 안에서 호출한다.
+	 */
+	public void increaseTodoVersion(Long userId) {
+		userRepository.incrementTodoVersion(userId);
+	}
+
+	public int getBookmarkVersion(Long userId) {
+		Integer bookmarkVersion = userRepository.findBookmarkVersionById(userId);
+		return bookmarkVersion == null ? 0 : bookmarkVersion;
+	}
 }
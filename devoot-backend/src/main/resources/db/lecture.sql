@@ -0,0 +1,20 @@
+-- 강의별 북마크 수 (Lecture.bookmarkCnt). BookmarkCountBuffer 가 증감분을 모아 반영하고, BookmarkRecountJob 이 어긋난 값을 고친다
+ALTER TABLE lecture ADD COLUMN IF NOT EXISTS bookmarkCnt INT NOT NULL DEFAULT 0 AFTER ratingSum;
+
+-- 컬럼을 추가한 직후 한 번 채운다
+UPDATE lecture l
+SET l.bookmarkCnt = (SELECT COUNT(*) FROM bookmark b WHERE b.lectureId = l.id);
+
+-- 재계산 작업의 강의별 COUNT 가 북마크 테이블 전체를 읽지 않도록 한다
+CREATE INDEX IF NOT EXISTS idx_bookmark_lectureId ON bookmark (lectureId);
+
+-- curriculum 은 COMPRESS() 형식으로 저장한다 (CompressedStringConverter). 압축된 값은 5번째 바이트가 zlib 헤더(0x78)라 다시 실행해도 건너뛴다
+-- 변경 전 크기: SELECT COUNT(*), AVG(LENGTH(curriculum)), MAX(LENGTH(curriculum)) FROM lecture;
+ALTER TABLE lecture MODIFY curriculum LONGBLOB;
+UPDATE lecture
+SET curriculum = COMPRESS(curriculum)
+WHERE curriculum IS NOT NULL AND curriculum <> '' AND HEX(SUBSTRING(curriculum, 5, 1)) <> '78';
+-- 변경 후 크기: SELECT COUNT(*), AVG(LENGTH(curriculum)), AVG(UNCOMPRESSED_LENGTH(curriculum)) FROM lecture;
+
+-- 리뷰 추가/수정/삭제 때마다 오르는 버전 (Lecture.reviewVersion). 리뷰 목록과 상세의 ETag 에 쓴다
+ALTER TABLE lecture ADD COLUMN IF NOT EXISTS reviewVersion INT NOT NULL DEFAULT 0 AFTER ratingSum;
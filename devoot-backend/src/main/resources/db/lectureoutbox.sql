@@ -0,0 +1,14 @@
+-- 강의 색인 outbox (LectureOutbox)
+CREATE TABLE IF NOT EXISTS lectureoutbox (
+    id        BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    lectureId BIGINT      NOT NULL,
+    statsOnly BOOLEAN     NOT NULL DEFAULT FALSE,
+    attempts  INT         NOT NULL DEFAULT 0,
+    createdAt DATETIME(6) NOT NULL
+);
+
+-- 리뷰 통계만 바뀐 기록은 부분 업데이트로 반영한다
+ALTER TABLE lectureoutbox ADD COLUMN IF NOT EXISTS statsOnly BOOLEAN NOT NULL DEFAULT FALSE AFTER lectureId;
+
+-- 계속 실패하는 기록이 relay 를 막지 않도록 실패 횟수를 센다
+ALTER TABLE lectureoutbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0 AFTER statsOnly;
@@ -0,0 +1,7 @@
+-- 주기 작업 실행권 (SchedulerLease)
+CREATE TABLE IF NOT EXISTS schedulerlease (
+    name       VARCHAR(64)  NOT NULL PRIMARY KEY,
+    owner      VARCHAR(255) NOT NULL,
+    leaseUntil DATETIME(6)  NOT NULL,
+    acquiredAt DATETIME(6)  NOT NULL
+);
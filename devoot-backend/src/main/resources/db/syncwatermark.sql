@@ -0,0 +1,16 @@
+-- 증분 동기화 워터마크 (SyncWatermark)
+CREATE TABLE IF NOT EXISTS syncwatermark (
+    name           VARCHAR(64) NOT NULL PRIMARY KEY,
+    lastUpdatedAt  DATETIME(6) NOT NULL,
+    lastId         BIGINT      NOT NULL,
+    syncedAt       DATETIME(6) NULL,
+    failedId       BIGINT      NULL,
+    failedAttempts INT         NOT NULL DEFAULT 0
+);
+
+-- 계속 실패하는 행이 워터마크를 막지 않도록 연속 실패 횟수를 센다
+ALTER TABLE syncwatermark ADD COLUMN IF NOT EXISTS failedId BIGINT NULL AFTER syncedAt;
+ALTER TABLE syncwatermark ADD COLUMN IF NOT EXISTS failedAttempts INT NOT NULL DEFAULT 0 AFTER failedId;
+
+-- findChangedAfter 의 (updatedAt, id) 키셋 정렬/범위 조회용
+CREATE INDEX IF NOT EXISTS idx_lecture_updatedAt_id ON lecture (updatedAt, id);
@@ -0,0 +1,6 @@
+-- 북마크 보드/할 일이 바뀔 때마다 오르는 버전 (User.bookmarkVersion, User.todoVersion). 조건부 GET 의 ETag 에 쓴다
+ALTER TABLE `User` ADD COLUMN IF NOT EXISTS bookmarkVersion INT NOT NULL DEFAULT 0;
+ALTER TABLE `User` ADD COLUMN IF NOT EXISTS todoVersion INT NOT NULL DEFAULT 0;
+
+-- 프로필(닉네임, 이미지, profileId)이 바뀔 때마다 오르는 버전 (User.profileVersion). 리뷰 목록의 ETag 에 쓴다
+ALTER TABLE `User` ADD COLUMN IF NOT EXISTS profileVersion INT NOT NULL DEFAULT 0;
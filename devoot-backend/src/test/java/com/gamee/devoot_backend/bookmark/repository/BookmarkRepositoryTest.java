@@ -2,6 +2,7 @@ package com.gamee.devoot_backend.bookmark.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -159,4 +160,27 @@ public class BookmarkRepositoryTest {
 		assertTrue(bookmarkOptional.isPresent());
 		assertEquals(bookmark2.getId(), bookmarkOptional.get().getId());
 	}
+
+	@Test
+	@DisplayName("Test findLatestLectureUpdatedAtByUserId() - latest updatedAt among the user's bookmarked lectures")
+	public void testFindLatestLectureUpdatedAtByUserId() {
+		// Given
+		LocalDateTime t1 = LocalDateTime.of(2025, 2, 1, 10, 0);
+		Lecture older = lectureRepository.save(Lecture.builder().name("a").updatedAt(t1).build());
+		Lecture newer = lectureRepository.save(Lecture.builder().name("b").updatedAt(t1.plusDays(1)).build());
+		Lecture others = lectureRepository.save(Lecture.builder().name("c").updatedAt(t1.plusDays(2)).build());
+		bookmarkRepository.save(Bookmark.builder().userId(1L).lectureId(older.getId()).status(1).build());
+		bookmarkRepository.save(Bookmark.builder().userId(1L).lectureId(newer.getId()).status(1).build());
+		bookmarkRepository.save(Bookmark.builder().userId(2L).lectureId(others.getId()).status(1).build());
+		em.flush();
+		em.clear();
+
+		// When
+		LocalDateTime latest = bookmarkRepository.findLatestLectureUpdatedAtByUserId(1L);
+		LocalDateTime none = bookmarkRepository.findLatestLectureUpdatedAtByUserId(3L);
+
+		// Then
+		assertEquals(t1.plusDays(1), latest);
+		assertNull(none);
+	}
 }
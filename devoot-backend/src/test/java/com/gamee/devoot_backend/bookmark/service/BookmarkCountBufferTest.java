@@ -0,0 +1,110 @@
+package com.gamee.devoot_backend.bookmark.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookmarkCountBufferTest {
+	@Mock
+	LectureRepository lectureRepository;
+	@Mock
+	LectureOutboxRepository lectureOutboxRepository;
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	BookmarkCountBuffer bookmarkCountBuffer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		lenient().doAnswer(invocation -> {
+			((Consumer<TransactionStatus>)invocation.getArgument(0)).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@DisplayName("Test pending() - sums deltas and drops lectures that net to zero")
+	public void testPending() {
+		// When
+		bookmarkCountBuffer.increment(1L);
+		bookmarkCountBuffer.increment(1L);
+		bookmarkCountBuffer.increment(2L);
+		bookmarkCountBuffer.decrement(2L);
+
+		// Then
+		assertEquals(2, bookmarkCountBuffer.pending(1L));
+		assertEquals(0, bookmarkCountBuffer.pending(2L));
+		assertEquals(Map.of(1L, 2), bookmarkCountBuffer.drain());
+	}
+
+	@Test
+	@DisplayName("Test flush() - one update per distinct delta and one stats outbox entry per lecture")
+	@SuppressWarnings("unchecked")
+	public void testFlush1() {
+		// Given
+		bookmarkCountBuffer.increment(1L);
+		bookmarkCountBuffer.increment(2L);
+		bookmarkCountBuffer.decrement(3L);
+
+		// When
+		bookmarkCountBuffer.flush();
+
+		// Then
+		ArgumentCaptor<List<Long>> plusIds = ArgumentCaptor.forClass(List.class);
+		verify(lectureRepository).addBookmarkCnt(plusIds.capture(), eq(1));
+		assertEquals(List.of(1L, 2L), plusIds.getValue().stream().sorted().toList());
+		verify(lectureRepository).addBookmarkCnt(List.of(3L), -1);
+
+		ArgumentCaptor<List<LectureOutbox>> outbox = ArgumentCaptor.forClass(List.class);
+		verify(lectureOutboxRepository).saveAll(outbox.capture());
+		assertEquals(List.of(1L, 2L, 3L), outbox.getValue().stream().map(LectureOutbox::getLectureId).sorted().toList());
+		assertTrue(outbox.getValue().stream().allMatch(LectureOutbox::isStatsOnly));
+		assertEquals(0, bookmarkCountBuffer.pending(1L));
+	}
+
+	@Test
+	@DisplayName("Test flush() - keeps deltas for the next flush when writing fails")
+	public void testFlush2() {
+		// Given
+		bookmarkCountBuffer.increment(1L);
+		doThrow(new RuntimeException("db down")).when(lectureRepository).addBookmarkCnt(anyCollection(), anyInt());
+
+		// When
+		bookmarkCountBuffer.flush();
+
+		// Then
+		assertEquals(1, bookmarkCountBuffer.pending(1L));
+	}
+
+	@Test
+	@DisplayName("Test flush() - does nothing without deltas")
+	public void testFlush3() {
+		// When
+		bookmarkCountBuffer.flush();
+
+		// Then
+		verifyNoInteractions(transactionTemplate, lectureRepository, lectureOutboxRepository);
+	}
+}
@@ -28,6 +28,8 @@ import com.gamee.devoot_backend.bookmark.repository.BookmarkLogRepository;
 import com.gamee.devoot_backend.bookmark.repository.BookmarkRepository;
 import com.gamee.devoot_backend.follow.service.FollowService;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
+import com.gamee.devoot_backend.lecture.repository.LectureCurriculumRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.user.dto.CustomUserDetails;
 import com.gamee.devoot_backend.user.entity.User;
@@ -44,12 +46,18 @@ public class BookmarkServiceTest {
 	@Mock
 	LectureRepository lectureRepository;
 
+	@Mock
+	LectureCurriculumRepository lectureCurriculumRepository;
+
 	@Mock
 	UserService userService;
 
 	@Mock
 	FollowService followService;
 
+	@Mock
+	BookmarkCountBuffer bookmarkCountBuffer;
+
 	@InjectMocks
 	BookmarkService bookmarkService;
 
@@ -79,6 +87,7 @@ public class BookmarkServiceTest {
 		// Then
 		verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
 		verify(bookmarkLogRepository, times(1)).save(any());
+		verify(bookmarkCountBuffer, times(1)).increment(createDto.lectureId());
 	}
 
 	@Test
@@ -136,8 +145,6 @@ public class BookmarkServiceTest {
 				.sourceName("Inflearn")
 				.tags("spring,java,web")
 				.imageUrl("https://cdn.inflearn.com/spring-boot-basics.jpg")
-				.curriculum(
-					"{\"1\": {\"majorTitle\": \"INTRO - 강의소개\", \"subLectures\": [{\"title\": \"AR 증강현실 입문 강의 소개\", \"time\": \"\"}]}, \"2\": {\"majorTitle\": \"환경 세팅 및 데모앱 살펴보기\", \"subLectures\": [{\"title\": \"수강 전 사전 준비사항\", \"time\": \"\"}, {\"title\": \"유니티 설치 및 환경 설정\", \"time\": \"\"}, {\"title\": \"증강현실 데모 앱 실행을 통해 증강현실 쉽게 이해하기\", \"time\": \"\"}]}, \"3\": {\"majorTitle\": \"동물 이미지 인식을 통한 증강\", \"subLectures\": [{\"title\": \"늑대 이미지를 3D로 재탄생 시켜보기\", \"time\": \"\"}, {\"title\": \"증강 된 늑대의 애니메이션 변경 해보기\", \"time\": \"\"}, {\"title\": \"애니메이션에 효과음 추가해보기\", \"time\": \"\"}, {\"title\": \"여러 동물이미지를 3D로 재탄생 시켜보기\", \"time\": \"\"}]}, \"4\": {\"majorTitle\": \"평면 인식을 통한 증강\", \"subLectures\": [{\"title\": \"바닥 위에 고양이 증강시켜보기\", \"time\": \"\"}, {\"title\": \"터치를 통해 고양이 이동시켜보기\", \"time\": \"\"}, {\"title\": \"코드를 통해 애니메이션과 효과음 추가해보기\", \"time\": \"\"}, {\"title\": \"고양이에게 이름 지어주기\", \"time\": \"\"}, {\"title\": \"앱 공유방법 소개\", \"time\": \"\"}]}, \"5\": {\"majorTitle\": \"OUTRO - 강의를 마치며\", \"subLectures\": [{\"title\": \"증강현실 프로젝트 회고 및 시리즈 강의 소개\", \"time\": \"\"}]}}")
 				.build(),
 			Lecture.builder()
 				.id(2L)
@@ -145,7 +152,6 @@ public class BookmarkServiceTest {
 				.sourceName("Udemy")
 				.tags("react,javascript,frontend")
 				.imageUrl("https://cdn.udemy.com/react-advanced.jpg")
-				.curriculum("{\"1\": {\"majorTitle\": \"Kotlin으로 만드는 심플셀스타그램 앱\", \"subLectures\": [{\"title\": \"Hello Android Studio\", \"time\": \"\"}]}}")
 				.build(),
 			Lecture.builder()
 				.id(3L)
@@ -153,7 +159,6 @@ public class BookmarkServiceTest {
 				.sourceName("Coursera")
 				.tags("python,ml,ai")
 				.imageUrl("https://cdn.coursera.org/ml-fundamentals.jpg")
-				.curriculum("{\"1\": {\"majorTitle\": \"컴퓨팅 사고력이란?\", \"subLectures\": [{\"title\": \"문제를 해결하는 새로운 시각이 필요해\", \"time\": \"\"}]}}")
 				.build(),
 			Lecture.builder()
 				.id(4L)
@@ -161,7 +166,6 @@ public class BookmarkServiceTest {
 				.sourceName("PluralSight")
 				.tags("docker,kubernetes,devops")
 				.imageUrl("https://cdn.pluralsight.com/devops-k8s.jpg")
-				.curriculum("{\"1\": {\"majorTitle\": \"자연어 처리\", \"subLectures\": [{\"title\": \"자연어 처리와 ChatGPT의 원리\", \"time\": \"\"}]}}")
 				.build(),
 			Lecture.builder()
 				.id(5L)
@@ -169,14 +173,18 @@ public class BookmarkServiceTest {
 				.sourceName("LinkedIn Learning")
 				.tags("microservices,architecture,cloud")
 				.imageUrl("https://cdn.linkedin.com/microservices.jpg")
-				.curriculum("{\"1\": {\"majorTitle\": \"1. 파이썬 개요 및 설치\", \"subLectures\": [{\"title\": \"파이썬 데이터분석 과정 학습 범위 설명\", \"time\": \"\"}]}}")
 				.build()
 		);
+		List<LectureCurriculum> curriculums = List.of(
+			new LectureCurriculum(1L, "{\"1\": {\"majorTitle\": \"INTRO - 강의소개\", \"subLectures\": [{\"title\": \"AR 증강현실 입문 강의 소개\", \"time\": \"\"}]}, \"2\": {\"majorTitle\": \"환경 세팅 및 데모앱 살펴보기\", \"subLectures\": [{\"title\": \"수강 전 사전 준비사항\", \"time\": \"\"}, {\"title\": \"유니티 설치 및 환경 설정\", \"time\": \"\"}, {\"title\": \"증강현실 데모 앱 실행을 통해 증강현실 쉽게 이해하기\", \"time\": \"\"}]}, \"3\": {\"majorTitle\": \"동물 이미지 인식을 통한 증강\", \"subLectures\": [{\"title\": \"늑대 이미지를 3D로 재탄생 시켜보기\", \"time\": \"\"}, {\"title\": \"증강 된 늑대의 애니메이션 변경 해보기\", \"time\": \"\"}, {\"title\": \"애니메이션에 효과음 추가해보기\", \"time\": \"\"}, {\"title\": \"여러 동물이미지를 3D로 재탄생 시켜보기\", \"time\": \"\"}]}, \"4\": {\"majorTitle\": \"평면 인식을 통한 증강\", \"subLectures\": [{\"title\": \"바닥 위에 고양이 증강시켜보기\", \"time\": \"\"}, {\"title\": \"터치를 통해 고양이 이동시켜보기\", \"time\": \"\"}, {\"title\": \"코드를 통해 애니메이션과 효과음 추가해보기\", \"time\": \"\"}, {\"title\": \"고양이에게 이름 지어주기\", \"time\": \"\"}, {\"title\": \"앱 공유방법 소개\", \"time\": \"\"}]}, \"5\": {\"majorTitle\": \"OUTRO - 강의를 마치며\", \"subLectures\": [{\"title\": \"증강현실 프로젝트 회고 및 시리즈 강의 소개\", \"time\": \"\"}]}}"),
+			new LectureCurriculum(3L, "{\"1\": {\"majorTitle\": \"컴퓨팅 사고력이란?\", \"subLectures\": [{\"title\": \"문제를 해결하는 새로운 시각이 필요해\", \"time\": \"\"}]}}")
+		);
 		List<Bookmark> bookmarks = Arrays.asList(
 			// todo: 2 -> 5, doing: 1 -> 3, done: 4
 			Bookmark.builder()
 				.id(1L)
 				.lecture(lectures.get(0))
+				.lectureId(lectures.get(0).getId())
 				.userId(followedUser.getId())
 				.status(2)
 				.nextId(3L)
@@ -184,6 +192,7 @@ public class BookmarkServiceTest {
 			Bookmark.builder()
 				.id(2L)
 				.lecture(lectures.get(1))
+				.lectureId(lectures.get(1).getId())
 				.userId(followedUser.getId())
 				.status(1)
 				.nextId(5L)
@@ -191,6 +200,7 @@ public class BookmarkServiceTest {
 			Bookmark.builder()
 				.id(3L)
 				.lecture(lectures.get(2))
+				.lectureId(lectures.get(2).getId())
 				.userId(followedUser.getId())
 				.status(2)
 				.nextId(0L)
@@ -198,6 +208,7 @@ public class BookmarkServiceTest {
 			Bookmark.builder()
 				.id(4L)
 				.lecture(lectures.get(3))
+				.lectureId(lectures.get(3).getId())
 				.userId(followedUser.getId())
 				.status(3)
 				.nextId(0L)
@@ -205,6 +216,7 @@ public class BookmarkServiceTest {
 			Bookmark.builder()
 				.id(5L)
 				.lecture(lectures.get(4))
+				.lectureId(lectures.get(4).getId())
 				.userId(followedUser.getId())
 				.status(1)
 				.nextId(0L)
@@ -221,6 +233,8 @@ public class BookmarkServiceTest {
 			.thenReturn(Optional.of(bookmarks.get(0)));
 		when(bookmarkRepository.findFirstBookmarkOf(followedUser.getId(), 3))
 			.thenReturn(Optional.of(bookmarks.get(3)));
+		when(lectureCurriculumRepository.findAllById(List.of(1L, 3L)))
+			.thenReturn(curriculums);
 
 		// When
 		Map<String, List<BookmarkWithLectureDetailDto>> res = bookmarkService.getBookmarks(user, followedUser.getProfileId());
@@ -235,6 +249,9 @@ public class BookmarkServiceTest {
 		assertEquals(res.get("in-progress").get(0).id(), bookmarks.get(0).getId());
 		assertEquals(res.get("in-progress").get(1).id(), bookmarks.get(2).getId());
 		assertEquals(res.get("done").get(0).id(), bookmarks.get(3).getId());
+		assertEquals("INTRO - 강의소개", res.get("in-progress").get(0).lecture().curriculum().get("1").get("majorTitle").asText());
+		assertNotNull(res.get("in-progress").get(1).lecture().curriculum());
+		assertNull(res.get("todo").get(0).lecture().curriculum());
 
 		ObjectMapper mapper = new ObjectMapper();
 		String json = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(res);
@@ -330,5 +347,6 @@ public class BookmarkServiceTest {
 
 		// Then
 		verify(bookmarkRepository, times(1)).delete(any());
+		verify(bookmarkCountBuffer, times(1)).decrement(bookmark.getLectureId());
 	}
 }
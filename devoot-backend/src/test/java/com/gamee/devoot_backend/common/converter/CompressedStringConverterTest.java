@@ -0,0 +1,50 @@
+package com.gamee.devoot_backend.common.converter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CompressedStringConverterTest {
+	CompressedStringConverter converter = new CompressedStringConverter();
+
+	@Test
+	@DisplayName("Test convertToDatabaseColumn() - same bytes as MariaDB COMPRESS()")
+	public void testConvertToDatabaseColumn() {
+		// SELECT HEX(COMPRESS('a'))
+		assertArrayEquals(HexFormat.of().parseHex("01000000789C4B040000620062"), converter.convertToDatabaseColumn("a"));
+		assertArrayEquals(new byte[0], converter.convertToDatabaseColumn(""));
+		assertNull(converter.convertToDatabaseColumn(null));
+	}
+
+	@Test
+	@DisplayName("Test convertToEntityAttribute() - round trip of a curriculum")
+	public void testConvertToEntityAttribute1() {
+		// Given
+		String curriculum = "{\"1\": {\"majorTitle\": \"INTRO - 강의소개\", \"subLectures\": [{\"title\": \"AR 증강현실 입문 강의 소개\", \"time\": \"\"}]}, "
+			+ "\"2\": {\"majorTitle\": \"환경 세팅 및 데모앱 살펴보기\", \"subLectures\": [{\"title\": \"수강 전 사전 준비사항\", \"time\": \"\"}, "
+			+ "{\"title\": \"유니티 설치 및 환경 설정\", \"time\": \"\"}]}}";
+
+		// When
+		byte[] compressed = converter.convertToDatabaseColumn(curriculum);
+
+		// Then
+		assertTrue(compressed.length < curriculum.getBytes(StandardCharsets.UTF_8).length);
+		assertEquals(curriculum, converter.convertToEntityAttribute(compressed));
+	}
+
+	@Test
+	@DisplayName("Test convertToEntityAttribute() - reads values stored before compression as is")
+	public void testConvertToEntityAttribute2() {
+		// Given
+		String curriculum = "{\"1\": {\"majorTitle\": \"자연어 처리\", \"subLectures\": []}}";
+
+		// When & Then
+		assertEquals(curriculum, converter.convertToEntityAttribute(curriculum.getBytes(StandardCharsets.UTF_8)));
+		assertEquals("", converter.convertToEntityAttribute(new byte[0]));
+		assertNull(converter.convertToEntityAttribute(null));
+	}
+}
@@ -0,0 +1,117 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 인스턴스마다 별도 트랜잭션으로 lease 를 다투는 상황을 재현하기 위해 테스트 트랜잭션을 쓰지 않는다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExclusiveJobRunnerTest {
+	static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	static final Instant T0 = Instant.parse("2025-02-01T00:00:00Z");
+
+	@Autowired
+	SchedulerLeaseRepository schedulerLeaseRepository;
+
+	private ExclusiveJobRunner runner(String owner, Duration elapsed) {
+		return new ExclusiveJobRunner(schedulerLeaseRepository, Clock.fixed(T0.plus(elapsed), ZONE), owner);
+	}
+
+	@Test
+	@DisplayName("Test run() - only one instance runs while the lease is held")
+	public void testRun1() {
+		// Given
+		ExclusiveJobRunner nodeA = runner("node-a", Duration.ZERO);
+		ExclusiveJobRunner nodeB = runner("node-b", Duration.ofSeconds(1));
+		AtomicInteger runs = new AtomicInteger();
+
+		// When
+		boolean ranA = nodeA.run("job-exclusive", Duration.ofMinutes(10), Duration.ZERO, () -> {
+			runs.incrementAndGet();
+			assertFalse(nodeB.run("job-exclusive", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet));
+		});
+
+		// Then
+		assertTrue(ranA);
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	@DisplayName("Test run() - another instance takes over after the lease expires")
+	public void testRun2() {
+		// Given: node-a 가 lease 를 잡은 채로 죽음
+		LocalDateTime acquiredAt = LocalDateTime.ofInstant(T0, ZONE);
+		assertTrue(runner("node-a", Duration.ZERO).tryAcquire("job-takeover", acquiredAt, acquiredAt.plusMinutes(10)));
+		AtomicInteger runs = new AtomicInteger();
+
+		// When
+		boolean beforeExpiry = runner("node-b", Duration.ofMinutes(5))
+			.run("job-takeover", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet);
+		boolean afterExpiry = runner("node-b", Duration.ofMinutes(11))
+			.run("job-takeover", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet);
+
+		// Then
+		assertFalse(beforeExpiry);
+		assertTrue(afterExpiry);
+		assertEquals(1, runs.get());
+		assertEquals("node-b", schedulerLeaseRepository.findById("job-takeover").get().getOwner());
+	}
+
+	@Test
+	@DisplayName("Test run() - keeps the lease for lockAtLeastFor after a quick job")
+	public void testRun3() {
+		// Given
+		AtomicInteger runs = new AtomicInteger();
+		runner("node-a", Duration.ZERO).run("job-at-least", Duration.ofMinutes(10), Duration.ofSeconds(30), runs::incrementAndGet);
+
+		// When
+		boolean withinMinimum = runner("node-b", Duration.ofSeconds(10))
+			.run("job-at-least", Duration.ofMinutes(10), Duration.ofSeconds(30), runs::incrementAndGet);
+		boolean afterMinimum = runner("node-b", Duration.ofSeconds(31))
+			.run("job-at-least", Duration.ofMinutes(10), Duration.ofSeconds(30), runs::incrementAndGet);
+
+		// Then
+		assertFalse(withinMinimum);
+		assertTrue(afterMinimum);
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	@DisplayName("Test runAsync() - holds the lease until the job finishes on the executor")
+	public void testRunAsync() {
+		// Given
+		ExclusiveJobRunner nodeA = runner("node-a", Duration.ZERO);
+		ExclusiveJobRunner nodeB = runner("node-b", Duration.ofSeconds(1));
+		List<Runnable> submitted = new ArrayList<>();
+		AtomicInteger runs = new AtomicInteger();
+
+		// When
+		boolean started = nodeA.runAsync("job-async", Duration.ofMinutes(10), submitted::add, runs::incrementAndGet);
+		boolean sameInstanceWhileRunning = nodeA.run("job-async", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet);
+		boolean otherInstanceWhileRunning = nodeB.run("job-async", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet);
+		submitted.forEach(Runnable::run);
+		boolean afterFinished = nodeB.run("job-async", Duration.ofMinutes(10), Duration.ZERO, runs::incrementAndGet);
+
+		// Then
+		assertTrue(started);
+		assertFalse(sameInstanceWhileRunning);
+		assertFalse(otherInstanceWhileRunning);
+		assertTrue(afterFinished);
+		assertEquals(2, runs.get());
+	}
+}
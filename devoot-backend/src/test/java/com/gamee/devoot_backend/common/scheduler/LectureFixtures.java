@@ -0,0 +1,19 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import java.time.LocalDateTime;
+
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+
+/**
+ * 색인 작업 테스트에서 같이 쓰는 강의 데이터.
+ */
+final class LectureFixtures {
+	static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 2, 1, 10, 0);
+
+	private LectureFixtures() {
+	}
+
+	static LectureIndexDto lecture(long id) {
+		return LectureIndexDto.builder().id(id).name("lecture " + id).tags("java").reviewCnt(0).updatedAt(UPDATED_AT).build();
+	}
+}
@@ -0,0 +1,176 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import static com.gamee.devoot_backend.common.scheduler.LectureFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.dto.LectureStatsDto;
+import com.gamee.devoot_backend.lecture.entity.LectureOutbox;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureDetailCache;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureOutboxRelayTest {
+	@Mock
+	LectureOutboxRepository lectureOutboxRepository;
+	@Mock
+	LectureRepository lectureRepository;
+	@Mock
+	LectureBulkIndexer lectureBulkIndexer;
+	@Mock
+	LectureSearchCache lectureSearchCache;
+	@Mock
+	LectureDetailCache lectureDetailCache;
+
+	@InjectMocks
+	LectureOutboxRelay lectureOutboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(lectureOutboxRelay, "batchSize", 10);
+		ReflectionTestUtils.setField(lectureOutboxRelay, "maxAttempts", 3);
+	}
+
+	private LectureOutbox outbox(long id, long lectureId) {
+		return LectureOutbox.builder().id(id).lectureId(lectureId).build();
+	}
+
+	private LectureOutbox statsOutbox(long id, long lectureId) {
+		return LectureOutbox.builder().id(id).lectureId(lectureId).statsOnly(true).build();
+	}
+
+	@Test
+	@DisplayName("Test drain() - indexes each lecture once and keeps entries of failed lectures")
+	@SuppressWarnings("unchecked")
+	public void testDrain() {
+		// Given
+		when(lectureOutboxRepository.findAllByOrderByIdAsc(any()))
+			.thenReturn(List.of(outbox(1, 100), outbox(2, 100), outbox(3, 200)));
+		when(lectureRepository.findIndexDtosByIdIn(any())).thenReturn(List.of(lecture(100), lecture(200)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("200", "rejected"), 1, 1_000_000));
+
+		// When
+		lectureOutboxRelay.drain();
+
+		// Then
+		ArgumentCaptor<List<LectureDocument>> documents = ArgumentCaptor.forClass(List.class);
+		verify(lectureBulkIndexer).index(documents.capture(), any());
+		assertEquals(2, documents.getValue().size());
+		verify(lectureOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(lectureOutboxRepository).incrementAttempts(List.of(3L));
+		verify(lectureSearchCache).bumpGeneration();
+	}
+
+	@Test
+	@DisplayName("Test drain() - drops entries that failed maxAttempts times and keeps draining")
+	public void testDrainDropsExhaustedEntries() {
+		// Given
+		ReflectionTestUtils.setField(lectureOutboxRelay, "batchSize", 2);
+		when(lectureOutboxRepository.findAllByOrderByIdAsc(any()))
+			.thenReturn(List.of(LectureOutbox.builder().id(1L).lectureId(100L).attempts(2).build(), outbox(2, 200)))
+			.thenReturn(List.of());
+		when(lectureRepository.findIndexDtosByIdIn(any())).thenReturn(List.of(lecture(100), lecture(200)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("100", "mapper_parsing_exception"), 1, 1_000_000));
+
+		// When
+		lectureOutboxRelay.drain();
+
+		// Then
+		verify(lectureOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(lectureOutboxRepository, never()).incrementAttempts(anyList());
+		verify(lectureOutboxRepository, times(2)).findAllByOrderByIdAsc(any());
+	}
+
+	@Test
+	@DisplayName("Test drain() - sends partial updates for stats-only lectures and falls back to full indexing on failure")
+	@SuppressWarnings("unchecked")
+	public void testDrainStatsOnly() {
+		// Given
+		when(lectureOutboxRepository.findAllByOrderByIdAsc(any()))
+			.thenReturn(List.of(statsOutbox(1, 100), outbox(2, 100), statsOutbox(3, 200), statsOutbox(4, 300), statsOutbox(5, 300)));
+		when(lectureRepository.findStatsByIdIn(Set.of(200L, 300L)))
+			.thenReturn(List.of(new LectureStatsDto(200, 2, 9f, 7), new LectureStatsDto(300, 0, 0f, 0)));
+		when(lectureBulkIndexer.update(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("300", "document_missing_exception"), 1, 1_000_000));
+		when(lectureRepository.findIndexDtosByIdIn(Set.of(100L, 300L))).thenReturn(List.of(lecture(100), lecture(300)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(2, Map.of(), 1, 1_000_000));
+
+		// When
+		lectureOutboxRelay.drain();
+
+		// Then
+		ArgumentCaptor<List<UpdateQuery>> updates = ArgumentCaptor.forClass(List.class);
+		verify(lectureBulkIndexer).update(updates.capture(), any());
+		assertEquals(List.of("200", "300"), updates.getValue().stream().map(UpdateQuery::getId).toList());
+		assertEquals(4.5f, updates.getValue().get(0).getDocument().get("popularity"));
+		assertEquals(2, updates.getValue().get(0).getDocument().get("reviewCnt"));
+		assertEquals(7, updates.getValue().get(0).getDocument().get("bookmarkCnt"));
+		verify(lectureBulkIndexer).index(anyList(), any());
+		verify(lectureOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L, 5L));
+	}
+
+	@Test
+	@DisplayName("Test drain() - deletes documents of lectures no longer in the database")
+	public void testDrainDeleted() {
+		// Given
+		when(lectureOutboxRepository.findAllByOrderByIdAsc(any()))
+			.thenReturn(List.of(outbox(1, 100), outbox(2, 200), statsOutbox(3, 300), outbox(4, 400)));
+		when(lectureRepository.findStatsByIdIn(Set.of(300L))).thenReturn(List.of());
+		when(lectureRepository.findIndexDtosByIdIn(any())).thenReturn(List.of(lecture(100)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of(), 1, 1_000_000));
+		when(lectureBulkIndexer.delete(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("400", "timeout"), 1, 1_000_000));
+
+		// When
+		lectureOutboxRelay.drain();
+
+		// Then
+		verify(lectureBulkIndexer, never()).update(anyList(), any());
+		verify(lectureBulkIndexer).delete(eq(List.of("200", "400", "300")), any());
+		verify(lectureOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	@DisplayName("Test drain() - keeps the search cache when only stats were updated")
+	public void testDrainStatsOnlyKeepsCache() {
+		// Given
+		when(lectureOutboxRepository.findAllByOrderByIdAsc(any()))
+			.thenReturn(List.of(statsOutbox(1, 100), statsOutbox(2, 200)));
+		when(lectureRepository.findStatsByIdIn(Set.of(100L, 200L)))
+			.thenReturn(List.of(new LectureStatsDto(100, 1, 5f, 3), new LectureStatsDto(200, 0, 0f, 1)));
+		when(lectureBulkIndexer.update(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(2, Map.of(), 1, 1_000_000));
+
+		// When
+		lectureOutboxRelay.drain();
+
+		// Then
+		verify(lectureBulkIndexer, never()).index(anyList(), any());
+		verify(lectureSearchCache, never()).bumpGeneration();
+		verify(lectureOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+	}
+}
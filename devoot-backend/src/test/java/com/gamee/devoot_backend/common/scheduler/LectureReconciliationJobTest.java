@@ -0,0 +1,109 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import static com.gamee.devoot_backend.common.scheduler.LectureFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.dto.LectureFingerprintDto;
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureReconciliationJobTest {
+	@Mock
+	LectureRepository lectureRepository;
+	@Mock
+	ElasticsearchOperations elasticsearchOperations;
+	@Mock
+	LectureBulkIndexer lectureBulkIndexer;
+
+	@InjectMocks
+	LectureReconciliationJob lectureReconciliationJob;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(lectureReconciliationJob, "chunkSize", 100);
+	}
+
+	private LectureReconciliationJob.FingerprintCursor cursor(LectureFingerprintDto... rows) {
+		Iterator<LectureFingerprintDto> iterator = List.of(rows).iterator();
+		return () -> iterator.hasNext() ? iterator.next() : null;
+	}
+
+	@Test
+	@DisplayName("Test merge() - reindexes missing or mismatched ids and deletes orphans")
+	public void testMerge() {
+		// Given
+		LectureReconciliationJob.FingerprintCursor db = cursor(
+			new LectureFingerprintDto(1, "a"), new LectureFingerprintDto(2, "b"), new LectureFingerprintDto(4, "d"), new LectureFingerprintDto(10, "j"));
+		LectureReconciliationJob.FingerprintCursor es = cursor(
+			new LectureFingerprintDto(1, "a"), new LectureFingerprintDto(2, "x"), new LectureFingerprintDto(3, "c"), new LectureFingerprintDto(11, "k"));
+		when(lectureRepository.findIndexDtosByIdIn(List.of(2L, 4L, 10L)))
+			.thenReturn(List.of(lecture(2), lecture(4), lecture(10)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(3, Map.of(), 1, 1_000_000));
+		when(lectureBulkIndexer.delete(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("11", "timeout"), 1, 1_000_000));
+
+		// When
+		LectureReconciliationJob.Result result = lectureReconciliationJob.merge(db, es);
+
+		// Then
+		assertEquals(4, result.dbRows());
+		assertEquals(4, result.documents());
+		assertEquals(2, result.missing());
+		assertEquals(1, result.mismatched());
+		assertEquals(2, result.orphans());
+		assertEquals(1, result.deleted());
+		assertEquals(3, result.reindexed());
+		verify(lectureBulkIndexer).delete(eq(List.of("3", "11")), any());
+		verifyNoInteractions(elasticsearchOperations);
+	}
+
+	@Test
+	@DisplayName("Test merge() - reindexes a document whose content differs even if the hash is the same")
+	public void testMergeContentMismatch() {
+		// Given
+		LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_789);
+		LectureIndexDto stale = LectureIndexDto.builder().id(1L).name("lecture 1").tags("java")
+			.reviewCnt(2).ratingSum(9f).bookmarkCnt(3).updatedAt(updatedAt).hash("h1").build();
+		LectureReconciliationJob.FingerprintCursor db = cursor(
+			new LectureFingerprintDto(1, updatedAt, 2, 9f, 4, "h1"), new LectureFingerprintDto(2, updatedAt, 0, 0f, 0, "h2"));
+		LectureReconciliationJob.FingerprintCursor es = cursor(
+			LectureFingerprintDto.of(LectureDocument.of(stale)),
+			LectureFingerprintDto.of(LectureDocument.of(LectureIndexDto.builder().id(2L).name("lecture 2").tags("java")
+				.reviewCnt(0).ratingSum(0f).bookmarkCnt(0).updatedAt(updatedAt.withNano(123_000_000)).hash("h2").build())));
+		when(lectureRepository.findIndexDtosByIdIn(List.of(1L)))
+			.thenReturn(List.of(lecture(1)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of(), 1, 1_000_000));
+
+		// When
+		LectureReconciliationJob.Result result = lectureReconciliationJob.merge(db, es);
+
+		// Then
+		assertEquals(0, result.missing());
+		assertEquals(1, result.mismatched());
+		assertEquals(0, result.orphans());
+		assertEquals(1, result.reindexed());
+		verify(lectureBulkIndexer, never()).delete(anyList(), any());
+	}
+}
@@ -0,0 +1,180 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+import com.gamee.devoot_backend.lecture.exception.LectureReindexConflictException;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureReindexJobTest {
+	static final IndexCoordinates INDEX = IndexCoordinates.of("lectures_v20250201000000");
+
+	@Mock
+	LectureRepository lectureRepository;
+	@Mock
+	LectureBulkIndexer lectureBulkIndexer;
+	@Mock
+	ElasticsearchOperations elasticsearchOperations;
+	@Mock
+	IndexOperations indexOperations;
+	@Mock
+	ExclusiveJobRunner exclusiveJobRunner;
+	@Mock
+	LectureSearchCache lectureSearchCache;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	ElasticsearchClient elasticsearchClient;
+
+	@InjectMocks
+	LectureReindexJob lectureReindexJob;
+
+	List<String> indexedIds;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(lectureReindexJob, "parallelism", 3);
+		ReflectionTestUtils.setField(lectureReindexJob, "chunkSize", 2);
+		indexedIds = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	private void givenLectures(long maxId) {
+		when(lectureRepository.findMaxId()).thenReturn(maxId);
+		when(lectureRepository.findIndexDtosInRange(anyLong(), anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+			long afterId = invocation.getArgument(0);
+			long toId = invocation.getArgument(1);
+			Limit limit = invocation.getArgument(2);
+			return LongStream.rangeClosed(afterId + 1, toId).limit(limit.max()).mapToObj(LectureFixtures::lecture).toList();
+		});
+	}
+
+	@Test
+	@DisplayName("Test load() - readers cover every id exactly once")
+	public void testLoad1() {
+		// Given
+		givenLectures(10);
+		when(lectureBulkIndexer.index(anyList(), eq(INDEX))).thenAnswer(invocation -> {
+			List<LectureDocument> documents = invocation.getArgument(0);
+			documents.forEach(document -> indexedIds.add(document.getId()));
+			return new LectureBulkIndexer.Result(documents.size(), Map.of(), 1, 1);
+		});
+
+		// When
+		LectureReindexJob.Load load = lectureReindexJob.load(INDEX);
+
+		// Then
+		assertEquals(new LectureReindexJob.Load(10, 0), load);
+		assertEquals(
+			LongStream.rangeClosed(1, 10).mapToObj(String::valueOf).sorted().toList(),
+			indexedIds.stream().sorted().toList()
+		);
+	}
+
+	@Test
+	@DisplayName("Test load() - counts failed documents")
+	public void testLoad2() {
+		// Given
+		givenLectures(4);
+		when(lectureBulkIndexer.index(anyList(), eq(INDEX))).thenAnswer(invocation -> {
+			List<LectureDocument> documents = invocation.getArgument(0);
+			return new LectureBulkIndexer.Result(documents.size() - 1, Map.of(documents.get(0).getId(), "mapper_parsing_exception"), 1, 1);
+		});
+
+		// When
+		LectureReindexJob.Load load = lectureReindexJob.load(INDEX);
+
+		// Then
+		assertEquals(4, load.indexed() + load.failed());
+		assertTrue(load.failed() > 0);
+	}
+
+	@Test
+	@DisplayName("Test load() - does nothing for an empty table")
+	public void testLoad3() {
+		// Given
+		when(lectureRepository.findMaxId()).thenReturn(0L);
+		when(lectureRepository.findIndexDtosInRange(anyLong(), anyLong(), any(Limit.class))).thenReturn(List.of());
+
+		// When
+		LectureReindexJob.Load load = lectureReindexJob.load(INDEX);
+
+		// Then
+		assertEquals(new LectureReindexJob.Load(0, 0), load);
+		verify(lectureBulkIndexer, never()).index(anyList(), any());
+	}
+
+	@Test
+	@DisplayName("Test rebuild() - deletes the new index when loading fails before the alias moves")
+	public void testRebuild() {
+		// Given
+		when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOperations);
+		when(indexOperations.create(anyMap(), any(Document.class))).thenReturn(true);
+		when(lectureRepository.findMaxId()).thenThrow(new IllegalStateException("connection lost"));
+
+		// When & Then
+		assertThrows(IllegalStateException.class, () -> lectureReindexJob.rebuild());
+		verify(indexOperations).delete();
+		verify(indexOperations, never()).alias(any());
+	}
+
+	@Test
+	@DisplayName("Test rebuild() - succeeds with the error noted when the catch-up after the alias swap fails")
+	public void testRebuildCatchUpAfterSwapFails() {
+		// Given
+		when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOperations);
+		when(indexOperations.create(anyMap(), any(Document.class))).thenReturn(true);
+		when(indexOperations.alias(any())).thenReturn(true);
+		givenLectures(2);
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(2, Map.of(), 1, 1));
+		when(lectureRepository.findChangedAfter(any(), anyLong(), any(), any(Limit.class)))
+			.thenReturn(List.of())
+			.thenThrow(new IllegalStateException("connection lost"));
+
+		// When
+		LectureReindexJob.Result result = lectureReindexJob.rebuild();
+
+		// Then
+		assertEquals(2, result.documents());
+		assertTrue(result.catchUpError().contains("connection lost"));
+		verify(indexOperations, never()).delete();
+		verify(lectureSearchCache).bumpGeneration();
+	}
+
+	@Test
+	@DisplayName("Test reindex() - keeps the previous status when the relay lease is held")
+	public void testReindex() {
+		// Given
+		when(exclusiveJobRunner.runAsync(anyString(), any(), any(), any())).thenReturn(false);
+
+		// When & Then
+		assertThrows(LectureReindexConflictException.class, () -> lectureReindexJob.reindex());
+		assertEquals(LectureReindexJob.State.IDLE, lectureReindexJob.status().state());
+	}
+}
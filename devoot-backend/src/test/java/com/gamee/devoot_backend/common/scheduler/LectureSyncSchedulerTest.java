@@ -0,0 +1,121 @@
+package com.gamee.devoot_backend.common.scheduler;
+
+import static com.gamee.devoot_backend.common.scheduler.LectureFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gamee.devoot_backend.lecture.entity.SyncWatermark;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+import com.gamee.devoot_backend.lecture.repository.SyncWatermarkRepository;
+import com.gamee.devoot_backend.lecture.service.LectureBulkIndexer;
+import com.gamee.devoot_backend.lecture.service.LectureDetailCache;
+import com.gamee.devoot_backend.lecture.service.LectureSearchCache;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureSyncSchedulerTest {
+	@Mock
+	LectureRepository lectureRepository;
+	@Mock
+	LectureBulkIndexer lectureBulkIndexer;
+	@Mock
+	LectureSearchCache lectureSearchCache;
+	@Mock
+	LectureDetailCache lectureDetailCache;
+	@Mock
+	SyncWatermarkRepository syncWatermarkRepository;
+
+	@InjectMocks
+	LectureSyncScheduler lectureSyncScheduler;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(lectureSyncScheduler, "chunkSize", 3);
+		ReflectionTestUtils.setField(lectureSyncScheduler, "safetyLag", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(lectureSyncScheduler, "maxAttempts", 3);
+	}
+
+	@Test
+	@DisplayName("Test sync() - advances watermark through every chunk")
+	public void testSync1() {
+		// Given
+		when(syncWatermarkRepository.findById(anyString())).thenReturn(Optional.empty());
+		when(lectureRepository.findChangedAfter(any(), anyLong(), any(), any()))
+			.thenReturn(List.of(lecture(1), lecture(2), lecture(3)))
+			.thenReturn(List.of(lecture(4)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(3, Map.of(), 1, 1_000_000))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of(), 1, 1_000_000));
+
+		// When
+		lectureSyncScheduler.sync();
+
+		// Then
+		ArgumentCaptor<SyncWatermark> captor = ArgumentCaptor.forClass(SyncWatermark.class);
+		verify(syncWatermarkRepository, times(2)).save(captor.capture());
+		assertEquals(4L, captor.getValue().getLastId());
+		assertEquals(UPDATED_AT, captor.getValue().getLastUpdatedAt());
+		verify(lectureSearchCache).bumpGeneration();
+	}
+
+	@Test
+	@DisplayName("Test sync() - stops watermark before first failed item")
+	public void testSync2() {
+		// Given
+		when(syncWatermarkRepository.findById(anyString())).thenReturn(Optional.empty());
+		when(lectureRepository.findChangedAfter(any(), anyLong(), any(), any()))
+			.thenReturn(List.of(lecture(1), lecture(2), lecture(3)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(2, Map.of("2", "rejected"), 1, 1_000_000));
+
+		// When
+		lectureSyncScheduler.sync();
+
+		// Then
+		ArgumentCaptor<SyncWatermark> captor = ArgumentCaptor.forClass(SyncWatermark.class);
+		verify(syncWatermarkRepository).save(captor.capture());
+		assertEquals(1L, captor.getValue().getLastId());
+		assertEquals(2L, captor.getValue().getFailedId());
+		assertEquals(1, captor.getValue().getFailedAttempts());
+		verify(lectureRepository, times(1)).findChangedAfter(any(), anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Test sync() - skips item that keeps failing and advances watermark past it")
+	public void testSync3() {
+		// Given
+		SyncWatermark watermark = SyncWatermark.initial("lecture-es-sync");
+		watermark.advance(UPDATED_AT, 1L);
+		watermark.recordFailure(2L);
+		watermark.recordFailure(2L);
+		when(syncWatermarkRepository.findById(anyString())).thenReturn(Optional.of(watermark));
+		when(lectureRepository.findChangedAfter(any(), anyLong(), any(), any()))
+			.thenReturn(List.of(lecture(2), lecture(3)));
+		when(lectureBulkIndexer.index(anyList(), any()))
+			.thenReturn(new LectureBulkIndexer.Result(1, Map.of("2", "mapper_parsing_exception"), 1, 1_000_000));
+
+		// When
+		lectureSyncScheduler.sync();
+
+		// Then
+		verify(syncWatermarkRepository).save(watermark);
+		assertEquals(3L, watermark.getLastId());
+		assertNull(watermark.getFailedId());
+		assertEquals(0, watermark.getFailedAttempts());
+	}
+}
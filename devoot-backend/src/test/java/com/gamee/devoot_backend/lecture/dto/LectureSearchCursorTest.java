@@ -0,0 +1,54 @@
+package com.gamee.devoot_backend.lecture.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gamee.devoot_backend.lecture.exception.InvalidSearchCursorException;
+
+public class LectureSearchCursorTest {
+	@Test
+	@DisplayName("Test decode() - restores encoded cursor")
+	public void testDecode1() {
+		// Given
+		LectureSearchCursor cursor = new LectureSearchCursor("pit-1", List.of(4.5, 1700000000000L, 42), 20, "백엔드", "Java", "popular", null,
+			LectureSearchFilter.of(null, 50000, 4f));
+
+		// When
+		LectureSearchCursor decoded = LectureSearchCursor.decode(cursor.encode());
+
+		// Then
+		assertEquals("pit-1", decoded.pitId());
+		assertEquals(3, decoded.searchAfter().size());
+		assertEquals(20, decoded.size());
+		assertEquals("백엔드", decoded.category());
+		assertEquals("popular", decoded.sort());
+		assertNull(decoded.query());
+		assertEquals(new LectureSearchFilter(null, 50000, 4f), decoded.filter());
+	}
+
+	@Test
+	@DisplayName("Test decode() - accepts the first page cursor without a point in time")
+	public void testDecode3() {
+		// Given
+		LectureSearchCursor cursor = new LectureSearchCursor(null, List.of(4.5, 42), 20, null, null, "popular", "spring", LectureSearchFilter.NONE);
+
+		// When
+		LectureSearchCursor decoded = LectureSearchCursor.decode(cursor.encode());
+
+		// Then
+		assertNull(decoded.pitId());
+		assertEquals(2, decoded.searchAfter().size());
+		assertEquals("spring", decoded.query());
+	}
+
+	@Test
+	@DisplayName("Test decode() - throws InvalidSearchCursorException for malformed cursor")
+	public void testDecode2() {
+		assertThrows(InvalidSearchCursorException.class, () -> LectureSearchCursor.decode("not-a-cursor"));
+		assertThrows(InvalidSearchCursorException.class, () -> LectureSearchCursor.decode("e30"));
+	}
+}
@@ -0,0 +1,43 @@
+package com.gamee.devoot_backend.lecture.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.entity.LectureCurriculum;
+
+@DataJpaTest
+public class LectureCurriculumRepositoryTest {
+	@Autowired
+	private LectureCurriculumRepository lectureCurriculumRepository;
+
+	@Autowired
+	private LectureRepository lectureRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	@DisplayName("Test save() - writes the curriculum of an existing lecture row")
+	public void testSave() {
+		// Given
+		Lecture lecture = lectureRepository.save(Lecture.builder().name("spring").reviewCnt(0).build());
+		em.flush();
+
+		// When
+		lectureCurriculumRepository.save(new LectureCurriculum(lecture.getId(), "{\"1\": {\"majorTitle\": \"intro\"}}"));
+		em.flush();
+		em.clear();
+
+		// Then
+		assertEquals("{\"1\": {\"majorTitle\": \"intro\"}}", lectureCurriculumRepository.findById(lecture.getId()).orElseThrow().getCurriculum());
+		assertEquals("spring", lectureRepository.findById(lecture.getId()).orElseThrow().getName());
+		assertEquals(1, lectureRepository.count());
+	}
+}
@@ -2,13 +2,26 @@ package com.gamee.devoot_backend.lecture.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
 import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import com.gamee.devoot_backend.bookmark.entity.Bookmark;
+import com.gamee.devoot_backend.lecture.dto.LectureBatchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureBookmarkCntDto;
+import com.gamee.devoot_backend.lecture.dto.LectureIndexDto;
+import com.gamee.devoot_backend.lecture.dto.LectureVersionDto;
 import com.gamee.devoot_backend.lecture.entity.Lecture;
 
 @DataJpaTest
@@ -35,6 +48,7 @@ public class LectureRepositoryTest {
 		lecture = lectureRepository.findById(lecture.getId()).get();
 		assertEquals(5.0f, lecture.getRatingSum());
 		assertEquals(1, lecture.getReviewCnt());
+		assertEquals(1, lecture.getReviewVersion());
 	}
 
 	@Test
@@ -53,6 +67,7 @@ public class LectureRepositoryTest {
 		lecture = lectureRepository.findById(lecture.getId()).get();
 		assertEquals(0f, lecture.getRatingSum());
 		assertEquals(0, lecture.getReviewCnt());
+		assertEquals(1, lecture.getReviewVersion());
 	}
 
 	@Test
@@ -71,5 +86,165 @@ public class LectureRepositoryTest {
 		lecture = lectureRepository.findById(lecture.getId()).get();
 		assertEquals(lecture.getRatingSum(), 3.0f);
 		assertEquals(lecture.getReviewCnt(), 1);
+		assertEquals(1, lecture.getReviewVersion());
+	}
+
+	@Test
+	@DisplayName("Test findBatchDetailsByIdIn() - reads the card fields of the given lectures only")
+	public void testFindBatchDetailsByIdIn() {
+		// Given
+		Lecture a = lectureRepository.save(Lecture.builder().name("a").currentPrice(1000).reviewCnt(2).ratingSum(9.0f).build());
+		Lecture b = lectureRepository.save(Lecture.builder().name("b").build());
+		lectureRepository.save(Lecture.builder().name("c").build());
+		em.flush();
+		em.clear();
+
+		// When
+		List<LectureBatchDetailDto> lectures = lectureRepository.findBatchDetailsByIdIn(List.of(a.getId(), b.getId(), b.getId() + 100));
+
+		// Then
+		assertEquals(List.of("a", "b"), lectures.stream().sorted(Comparator.comparingLong(LectureBatchDetailDto::id)).map(LectureBatchDetailDto::name).toList());
+		LectureBatchDetailDto first = lectures.stream().filter(lecture -> lecture.id() == a.getId()).findFirst().orElseThrow();
+		assertEquals(1000, first.currentPrice());
+		assertEquals(4.5f, first.rating());
+		assertEquals(0, first.bookmarkCount());
+		assertFalse(first.isBookmarked());
+
+		LectureBatchDetailDto bookmarked = first.withBookmark(1, 7L);
+		assertEquals(1, bookmarked.bookmarkCount());
+		assertTrue(bookmarked.isBookmarked());
+		assertEquals(7L, bookmarked.bookmarkId());
+	}
+
+	@Test
+	@DisplayName("Test findVersionById() - reads only the values the ETag is built from")
+	public void testFindVersionById() {
+		// Given
+		LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+		Lecture lecture = lectureRepository.save(Lecture.builder().name("a").hash("h").reviewCnt(2).ratingSum(9.0f).updatedAt(updatedAt).build());
+		em.flush();
+		em.clear();
+
+		// When
+		LectureVersionDto version = lectureRepository.findVersionById(lecture.getId()).orElseThrow();
+
+		// Then
+		assertEquals(updatedAt, version.updatedAt());
+		assertEquals("h", version.hash());
+		assertEquals(4.5f, version.rating());
+		assertEquals(0, version.reviewVersion());
+		assertEquals(0, version.bookmarkCnt());
+		assertTrue(lectureRepository.findVersionById(lecture.getId() + 1).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Test searchForFallback() - filters by escaped name prefix or category")
+	public void testSearchForFallback1() {
+		// Given
+		lectureRepository.save(Lecture.builder().name("Spring 입문").category("백엔드").reviewCnt(3).ratingSum(12f).build());
+		lectureRepository.save(Lecture.builder().name("Spring_Boot 심화").category("백엔드").reviewCnt(5).ratingSum(20f).build());
+		lectureRepository.save(Lecture.builder().name("React 입문").category("프론트엔드").reviewCnt(1).ratingSum(4f).build());
+
+		// When
+		Page<Lecture> byPrefix = lectureRepository.searchForFallback("Spring%", null, null, null, null,
+			PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "reviewCnt")));
+		Page<Lecture> byEscapedPrefix = lectureRepository.searchForFallback("Spring\\_%", null, null, null, null, PageRequest.of(0, 10));
+		Page<Lecture> byCategory = lectureRepository.searchForFallback(null, "프론트엔드", null, null, null, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(2, byPrefix.getTotalElements());
+		assertEquals("Spring_Boot 심화", byPrefix.getContent().get(0).getName());
+		assertEquals(1, byEscapedPrefix.getTotalElements());
+		assertEquals(1, byCategory.getTotalElements());
+		assertEquals("React 입문", byCategory.getContent().get(0).getName());
+	}
+
+	@Test
+	@DisplayName("Test searchForFallback() - applies price and rating ranges")
+	public void testSearchForFallback2() {
+		// Given
+		lectureRepository.save(Lecture.builder().name("a").currentPrice(0).reviewCnt(2).ratingSum(9f).build());
+		lectureRepository.save(Lecture.builder().name("b").currentPrice(45000).reviewCnt(2).ratingSum(7f).build());
+		lectureRepository.save(Lecture.builder().name("c").currentPrice(45000).reviewCnt(0).ratingSum(0f).build());
+		lectureRepository.save(Lecture.builder().name("d").currentPrice(120000).reviewCnt(1).ratingSum(5f).build());
+
+		// When
+		Page<Lecture> underPrice = lectureRepository.searchForFallback(null, null, null, 50000, null, PageRequest.of(0, 10));
+		Page<Lecture> betweenPrices = lectureRepository.searchForFallback(null, null, 1, 50000, null, PageRequest.of(0, 10));
+		Page<Lecture> aboveRating = lectureRepository.searchForFallback(null, null, null, null, 4f, PageRequest.of(0, 10));
+		Page<Lecture> aboveZero = lectureRepository.searchForFallback(null, null, null, null, 0f, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(3, underPrice.getTotalElements());
+		assertEquals(2, betweenPrices.getTotalElements());
+		assertEquals(List.of("a", "d"), aboveRating.getContent().stream().map(Lecture::getName).sorted().toList());
+		// ES 처럼 리뷰가 없는 강의도 평점 0 으로 포함된다
+		assertEquals(4, aboveZero.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("Test findChangedAfter() - continues through rows sharing a timestamp")
+	public void testFindChangedAfter() {
+		// Given
+		LocalDateTime t1 = LocalDateTime.of(2025, 2, 1, 10, 0);
+		LocalDateTime t2 = t1.plusMinutes(1);
+		Lecture a = lectureRepository.save(Lecture.builder().name("a").updatedAt(t1).build());
+		Lecture b = lectureRepository.save(Lecture.builder().name("b").updatedAt(t2).build());
+		Lecture c = lectureRepository.save(Lecture.builder().name("c").updatedAt(t2).build());
+		Lecture d = lectureRepository.save(Lecture.builder().name("d").updatedAt(t2).build());
+		lectureRepository.save(Lecture.builder().name("e").updatedAt(t2.plusMinutes(1)).build());
+
+		// When
+		List<LectureIndexDto> first = lectureRepository.findChangedAfter(t1.minusDays(1), 0, t2, Limit.of(2));
+		LectureIndexDto last = first.get(first.size() - 1);
+		List<LectureIndexDto> second = lectureRepository.findChangedAfter(last.updatedAt(), last.id(), t2, Limit.of(2));
+		List<LectureIndexDto> third = lectureRepository.findChangedAfter(t2, d.getId(), t2, Limit.of(2));
+
+		// Then
+		assertEquals(List.of(a.getId(), b.getId()), first.stream().map(LectureIndexDto::id).toList());
+		assertEquals(List.of(c.getId(), d.getId()), second.stream().map(LectureIndexDto::id).toList());
+		assertTrue(third.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Test addBookmarkCnt() - applies one delta to every given lecture")
+	public void testAddBookmarkCnt() {
+		// Given
+		Lecture a = lectureRepository.save(Lecture.builder().name("a").build());
+		Lecture b = lectureRepository.save(Lecture.builder().name("b").build());
+		Lecture c = lectureRepository.save(Lecture.builder().name("c").build());
+		em.flush();
+
+		// When
+		lectureRepository.addBookmarkCnt(List.of(a.getId(), b.getId()), 2);
+		lectureRepository.addBookmarkCnt(List.of(b.getId()), -1);
+		em.clear();
+
+		// Then
+		assertEquals(2, lectureRepository.findVersionById(a.getId()).orElseThrow().bookmarkCnt());
+		assertEquals(1, lectureRepository.findVersionById(b.getId()).orElseThrow().bookmarkCnt());
+		assertEquals(0, lectureRepository.findVersionById(c.getId()).orElseThrow().bookmarkCnt());
+	}
+
+	@Test
+	@DisplayName("Test findBookmarkCntDriftsInRange() - returns only lectures whose count drifted")
+	public void testFindBookmarkCntDriftsInRange() {
+		// Given
+		Lecture a = lectureRepository.save(Lecture.builder().name("a").build());
+		Lecture b = lectureRepository.save(Lecture.builder().name("b").build());
+		Lecture c = lectureRepository.save(Lecture.builder().name("c").build());
+		em.persist(Bookmark.builder().lectureId(a.getId()).userId(1L).status(1).build());
+		em.persist(Bookmark.builder().lectureId(a.getId()).userId(2L).status(1).build());
+		em.persist(Bookmark.builder().lectureId(b.getId()).userId(1L).status(1).build());
+		em.flush();
+		lectureRepository.addBookmarkCnt(List.of(b.getId()), 1);
+		lectureRepository.addBookmarkCnt(List.of(c.getId()), 3);
+		em.clear();
+
+		// When
+		List<LectureBookmarkCntDto> drifts = lectureRepository.findBookmarkCntDriftsInRange(a.getId() - 1, c.getId());
+
+		// Then
+		assertEquals(List.of(new LectureBookmarkCntDto(a.getId(), 0, 2), new LectureBookmarkCntDto(c.getId(), 3, 0)), drifts);
 	}
 }
@@ -0,0 +1,140 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.util.unit.DataSize;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+
+public class LectureBulkIndexerTest {
+	static final IndexCoordinates INDEX = IndexCoordinates.of("lectures");
+
+	ElasticsearchOperations elasticsearchOperations;
+	MappingElasticsearchConverter converter;
+	List<List<String>> requestedIds;
+
+	@BeforeEach
+	void setUp() {
+		elasticsearchOperations = mock(ElasticsearchOperations.class);
+		converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		requestedIds = new ArrayList<>();
+	}
+
+	private LectureBulkIndexer indexer(int batchSize, DataSize maxBytes) {
+		return new LectureBulkIndexer(elasticsearchOperations, converter, batchSize, maxBytes, 2, 0);
+	}
+
+	private List<LectureDocument> documents(int count) {
+		return IntStream.rangeClosed(1, count)
+			.mapToObj(i -> LectureDocument.builder().id(String.valueOf(i)).name("lecture " + i).tags(List.of("java")).build())
+			.toList();
+	}
+
+	private void recordRequests() {
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(INDEX))).thenAnswer(invocation -> {
+			List<IndexQuery> queries = invocation.getArgument(0);
+			requestedIds.add(queries.stream().map(IndexQuery::getId).toList());
+			return List.of();
+		});
+	}
+
+	@Test
+	@DisplayName("Test index() - splits batches by document count and bytes")
+	public void testIndex1() {
+		// Given
+		recordRequests();
+
+		// When
+		LectureBulkIndexer.Result byCount = indexer(2, DataSize.ofMegabytes(5)).index(documents(5), INDEX);
+
+		// Then
+		assertEquals(5, byCount.indexed());
+		assertEquals(List.of(List.of("1", "2"), List.of("3", "4"), List.of("5")), requestedIds);
+
+		// When
+		requestedIds.clear();
+		LectureBulkIndexer.Result byBytes = indexer(100, DataSize.ofBytes(1)).index(documents(3), INDEX);
+
+		// Then
+		assertEquals(3, byBytes.requests());
+		assertEquals(3, requestedIds.size());
+	}
+
+	@Test
+	@DisplayName("Test index() - retries only failed items")
+	public void testIndex2() {
+		// Given
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(INDEX)))
+			.thenAnswer(invocation -> {
+				List<IndexQuery> queries = invocation.getArgument(0);
+				requestedIds.add(queries.stream().map(IndexQuery::getId).toList());
+				throw new BulkFailureException("failed", Map.of("2", new BulkFailureException.FailureDetails(429, "rejected")));
+			})
+			.thenAnswer(invocation -> {
+				List<IndexQuery> queries = invocation.getArgument(0);
+				requestedIds.add(queries.stream().map(IndexQuery::getId).toList());
+				return List.of();
+			});
+
+		// When
+		LectureBulkIndexer.Result result = indexer(10, DataSize.ofMegabytes(5)).index(documents(3), INDEX);
+
+		// Then
+		assertEquals(List.of(List.of("1", "2", "3"), List.of("2")), requestedIds);
+		assertEquals(3, result.indexed());
+		assertTrue(result.failures().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Test index() - reports items still failing after retries")
+	public void testIndex3() {
+		// Given
+		when(elasticsearchOperations.bulkIndex(anyList(), eq(INDEX)))
+			.thenThrow(new BulkFailureException("failed", Map.of("1", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception"))));
+
+		// When
+		LectureBulkIndexer.Result result = indexer(10, DataSize.ofMegabytes(5)).index(documents(2), INDEX);
+
+		// Then
+		assertEquals(1, result.indexed());
+		assertEquals(1, result.failures().size());
+		assertTrue(result.failures().containsKey("1"));
+		verify(elasticsearchOperations, times(3)).bulkIndex(anyList(), eq(INDEX));
+	}
+
+	@Test
+	@DisplayName("Test delete() - counts documents ES deleted and reports ids of failed batches")
+	public void testDelete() {
+		// Given
+		when(elasticsearchOperations.delete(any(DeleteQuery.class), eq(LectureDocument.class), eq(INDEX)))
+			.thenReturn(ByQueryResponse.builder().withDeleted(1).withFailures(List.of()).build())
+			.thenThrow(new RuntimeException("connection refused"));
+
+		// When
+		LectureBulkIndexer.Result result = indexer(2, DataSize.ofMegabytes(5)).delete(List.of("1", "2", "3"), INDEX);
+
+		// Then
+		assertEquals(1, result.indexed());
+		assertEquals(2, result.requests());
+		assertEquals(List.of("3"), List.copyOf(result.failures().keySet()));
+	}
+}
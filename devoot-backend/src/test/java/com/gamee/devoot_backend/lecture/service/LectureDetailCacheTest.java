@@ -0,0 +1,85 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LectureDetailCacheTest {
+	static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+	LectureDetailCache lectureDetailCache;
+	AtomicInteger loadCount;
+
+	@BeforeEach
+	void setUp() {
+		lectureDetailCache = new LectureDetailCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+		loadCount = new AtomicInteger();
+	}
+
+	private LectureDetailCache.Entry load(long id) {
+		loadCount.incrementAndGet();
+		Lecture lecture = Lecture.builder()
+			.id(id)
+			.name("lecture " + id)
+			.reviewCnt(2)
+			.ratingSum(9.0f)
+			.updatedAt(UPDATED_AT)
+			.build();
+		return LectureDetailCache.Entry.of(lecture, "[{\"title\":\"intro\"}]");
+	}
+
+	@Test
+	@DisplayName("Test get() - loads once and keeps the parsed curriculum")
+	public void testGet1() {
+		// When
+		LectureDetailCache.Entry first = lectureDetailCache.get(1L, this::load);
+		LectureDetailCache.Entry second = lectureDetailCache.get(1L, this::load);
+
+		// Then
+		assertEquals(1, loadCount.get());
+		assertSame(first, second);
+		assertEquals("intro", first.detail().curriculum().get(0).get("title").asText());
+		assertEquals("[{\"title\":\"intro\"}]", first.curriculum());
+		assertEquals(UPDATED_AT, first.updatedAt());
+	}
+
+	@Test
+	@DisplayName("Test get() - does not cache missing lectures")
+	public void testGet2() {
+		// When
+		lectureDetailCache.get(1L, id -> {
+			loadCount.incrementAndGet();
+			return null;
+		});
+		LectureDetailCache.Entry entry = lectureDetailCache.get(1L, this::load);
+
+		// Then
+		assertEquals(2, loadCount.get());
+		assertNotNull(entry);
+	}
+
+	@Test
+	@DisplayName("Test invalidate() - reloads after invalidation")
+	public void testInvalidate() {
+		// Given
+		lectureDetailCache.get(1L, this::load);
+		lectureDetailCache.get(2L, this::load);
+
+		// When
+		lectureDetailCache.invalidate(1L);
+		lectureDetailCache.get(1L, this::load);
+		lectureDetailCache.get(2L, this::load);
+
+		// Then
+		assertEquals(3, loadCount.get());
+	}
+}
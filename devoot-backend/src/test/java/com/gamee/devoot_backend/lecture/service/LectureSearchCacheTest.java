@@ -0,0 +1,137 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import com.gamee.devoot_backend.common.pageutils.CustomPage;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchFilter;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchSpec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LectureSearchCacheTest {
+	LectureSearchCache lectureSearchCache;
+	AtomicInteger loadCount;
+
+	@BeforeEach
+	void setUp() {
+		lectureSearchCache = new LectureSearchCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+		loadCount = new AtomicInteger();
+	}
+
+	private CustomPage<LectureSearchDetailDto> load() {
+		loadCount.incrementAndGet();
+		return new CustomPage<>(new PageImpl<>(List.of()));
+	}
+
+	@Test
+	@DisplayName("Test key() - equivalent requests share a key")
+	public void testKey() {
+		assertEquals(
+			lectureSearchCache.key(1, 20, null, "Java, spring", "popular", "  Spring  Boot ", null),
+			lectureSearchCache.key(1, 20, "백엔드", "spring,java", "POPULAR", "spring boot", null)
+		);
+		assertEquals(
+			lectureSearchCache.key(1, 20, "백엔드", null, null, "", null),
+			lectureSearchCache.key(1, 20, "백엔드", "", "unknown", null, null)
+		);
+		assertNotEquals(
+			lectureSearchCache.key(1, 20, "백엔드", null, null, null, null),
+			lectureSearchCache.key(2, 20, "백엔드", null, null, null, null)
+		);
+	}
+
+	@Test
+	@DisplayName("Test get() - serves cached page until generation is bumped")
+	public void testGet() {
+		// When
+		lectureSearchCache.get(1, 20, null, null, null, "java", null, this::load);
+		lectureSearchCache.get(1, 20, null, null, null, "JAVA", null, this::load);
+		lectureSearchCache.bumpGeneration();
+		lectureSearchCache.get(1, 20, null, null, null, "java", null, this::load);
+
+		// Then
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	@DisplayName("Test get() - does not keep degraded results")
+	public void testGetDegraded() {
+		// When
+		lectureSearchCache.get(1, 20, null, null, null, "java", null, () -> {
+			loadCount.incrementAndGet();
+			return new CustomPage<>(new PageImpl<>(List.of()), Map.of(), true);
+		});
+		lectureSearchCache.get(1, 20, null, null, null, "java", null, this::load);
+
+		// Then
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	@DisplayName("Test key() - category is keyed by the exact value sent to ES")
+	public void testKeyCategory() {
+		assertNotEquals(
+			lectureSearchCache.key(1, 20, "Web", null, null, null, null),
+			lectureSearchCache.key(1, 20, "Web ", null, null, null, null)
+		);
+		assertEquals(
+			lectureSearchCache.key(1, 20, null, null, null, null, null),
+			lectureSearchCache.key(1, 20, "  ", null, null, null, null)
+		);
+	}
+
+	@Test
+	@DisplayName("Test key() - range filters are part of the key")
+	public void testKeyFilter() {
+		assertEquals(
+			lectureSearchCache.key(1, 20, null, null, null, "java", null),
+			lectureSearchCache.key(1, 20, null, null, null, "java", LectureSearchFilter.of(null, null, null))
+		);
+		assertNotEquals(
+			lectureSearchCache.key(1, 20, null, null, null, "java", LectureSearchFilter.of(null, 50000, null)),
+			lectureSearchCache.key(1, 20, null, null, null, "java", LectureSearchFilter.of(null, 50000, 4f))
+		);
+	}
+
+	@Test
+	@DisplayName("Test key() - batch rows differing only by row key share a key")
+	public void testKeySpec() {
+		assertEquals(
+			lectureSearchCache.key(new LectureSearchSpec("home-java", null, null, null, "java", "newest", null, null, null, null)),
+			lectureSearchCache.key(new LectureSearchSpec("backend-java", 1, 20, null, "Java", "NEWEST", null, null, null, null))
+		);
+		assertNotEquals(
+			lectureSearchCache.key(new LectureSearchSpec("home-java", null, null, null, "java", "newest", null, null, null, null)),
+			lectureSearchCache.key(new LectureSearchSpec("home-java", 2, null, null, "java", "newest", null, null, null, null))
+		);
+	}
+
+	@Test
+	@DisplayName("Test put() - batch rows share entries with single searches")
+	public void testPut() {
+		// Given
+		LectureSearchSpec spec = new LectureSearchSpec("backend", null, null, "백엔드", null, "popular", null, null, null, null);
+		lectureSearchCache.put(spec, load());
+		lectureSearchCache.put(new LectureSearchSpec("degraded", null, null, null, null, null, "java", null, null, null),
+			new CustomPage<>(new PageImpl<>(List.of()), Map.of(), true));
+
+		// When
+		lectureSearchCache.get(1, 20, "백엔드", null, "POPULAR", null, null, this::load);
+
+		// Then
+		assertEquals(1, loadCount.get());
+		assertNotNull(lectureSearchCache.getIfPresent(spec));
+		assertNull(lectureSearchCache.getIfPresent(new LectureSearchSpec("degraded", 1, 20, null, null, null, "java", null, null, null)));
+	}
+}
@@ -0,0 +1,102 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import com.gamee.devoot_backend.lecture.document.LectureDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureSearchClientTest {
+	@Mock
+	ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+
+	@Mock
+	ElasticsearchOperations elasticsearchOperations;
+
+	LectureSearchClient lectureSearchClient;
+
+	@BeforeEach
+	void setUp() {
+		// 2 번 중 1 번 이상 실패하면 서킷이 열린다
+		lectureSearchClient = new LectureSearchClient(reactiveElasticsearchOperations, elasticsearchOperations, new SimpleMeterRegistry(),
+			Duration.ofMillis(100), 50, 2, Duration.ofMinutes(1));
+	}
+
+	private NativeQuery query() {
+		return NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build();
+	}
+
+	@Test
+	@DisplayName("Test search() - skips ES once the circuit breaker is open")
+	public void testSearchCircuitOpen() {
+		// Given
+		when(reactiveElasticsearchOperations.searchForHits(any(), eq(LectureDocument.class)))
+			.thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+		// When
+		lectureSearchClient.search(query());
+		lectureSearchClient.search(query());
+		Optional<LectureSearchClient.Result> result = lectureSearchClient.search(query());
+		Optional<List<LectureSearchClient.Result>> batch = lectureSearchClient.multiSearch(List.of(query()));
+
+		// Then
+		assertTrue(result.isEmpty());
+		assertTrue(batch.isEmpty());
+		verify(reactiveElasticsearchOperations, times(2)).searchForHits(any(), eq(LectureDocument.class));
+		verifyNoInteractions(elasticsearchOperations);
+	}
+
+	@Test
+	@DisplayName("Test search() - gives up when the deadline expires")
+	public void testSearchDeadline() {
+		// Given
+		when(reactiveElasticsearchOperations.searchForHits(any(), eq(LectureDocument.class))).thenReturn(Mono.never());
+
+		// When
+		long start = System.nanoTime();
+		Optional<LectureSearchClient.Result> result = lectureSearchClient.search(query());
+
+		// Then
+		assertTrue(result.isEmpty());
+		assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+	}
+
+	@Test
+	@DisplayName("Test searchHits() - uses the given deadline and keeps the query's server timeout")
+	public void testSearchHitsDeadline() {
+		// Given
+		NativeQuery query = NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).withTimeout(Duration.ofMillis(20)).build();
+		when(elasticsearchOperations.search(query, LectureDocument.class)).thenAnswer(invocation -> {
+			Thread.sleep(1_000);
+			return null;
+		});
+
+		// When
+		long start = System.nanoTime();
+		Optional<SearchHits<LectureDocument>> result = lectureSearchClient.searchHits(query, Duration.ofMillis(30));
+
+		// Then
+		assertTrue(result.isEmpty());
+		assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos());
+		assertEquals(Duration.ofMillis(20), query.getTimeout());
+	}
+}
@@ -0,0 +1,190 @@
+package com.gamee.devoot_backend.lecture.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+
+import com.gamee.devoot_backend.common.pageutils.CustomPage;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchDetailDto;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchFilter;
+import com.gamee.devoot_backend.lecture.dto.LectureSearchSpec;
+import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.repository.LectureRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureServiceTest {
+	@Mock
+	LectureRepository lectureRepository;
+
+	@Mock
+	LectureSearchCache lectureSearchCache;
+
+	@Mock
+	LectureSearchClient lectureSearchClient;
+
+	@InjectMocks
+	LectureService lectureService;
+
+	LectureSearchCache realCache = new LectureSearchCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+	LectureSearchSpec cachedSpec = new LectureSearchSpec("cached", 1, 10, "backend", null, null, null, null, null, null);
+	LectureSearchSpec javaSpec = new LectureSearchSpec("java", 1, 10, null, null, null, "java", null, null, null);
+	LectureSearchSpec sameJavaSpec = new LectureSearchSpec("java2", 1, 10, null, null, null, " Java ", null, null, null);
+	LectureSearchSpec newestSpec = new LectureSearchSpec("newest", 1, 10, null, null, "newest", null, null, null, null);
+
+	@SuppressWarnings("unchecked")
+	private void givenCacheMiss() {
+		when(lectureSearchCache.get(anyInt(), anyInt(), any(), any(), any(), any(), any(), any()))
+			.thenAnswer(invocation -> ((Supplier<CustomPage<LectureSearchDetailDto>>)invocation.getArgument(7)).get());
+	}
+
+	// 요청 중 캐시에 있는 줄은 cachedSpec 하나뿐이다
+	private CustomPage<LectureSearchDetailDto> givenBatchCache() {
+		CustomPage<LectureSearchDetailDto> cached = new CustomPage<>(new PageImpl<LectureSearchDetailDto>(List.of()), Map.of());
+		when(lectureSearchCache.getIfPresent(any())).thenAnswer(invocation -> invocation.getArgument(0) == cachedSpec ? cached : null);
+		when(lectureSearchCache.key(any())).thenAnswer(invocation -> realCache.key((LectureSearchSpec)invocation.getArgument(0)));
+		return cached;
+	}
+
+	private void givenFallbackResult() {
+		when(lectureRepository.searchForFallback(any(), any(), any(), any(), any(), any(Pageable.class)))
+			.thenReturn(new PageImpl<Lecture>(List.of()));
+	}
+
+	@Test
+	@DisplayName("Test search() - falls back to MariaDB and marks the page degraded when ES does not answer")
+	public void testSearchFallback() {
+		// Given
+		givenCacheMiss();
+		when(lectureSearchClient.search(any())).thenReturn(Optional.empty());
+		givenFallbackResult();
+
+		// When
+		CustomPage<LectureSearchDetailDto> result = lectureService.search(1, 20, "backend", null, null, null,
+			LectureSearchFilter.of(1000, 5000, 3f));
+
+		// Then
+		assertTrue(result.isDegraded());
+		assertEquals(Map.of(), result.getAggregations());
+		verify(lectureRepository).searchForFallback(isNull(), eq("backend"), eq(1000), eq(5000), eq(3f), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("Test search() - escapes LIKE wildcards in the fallback name pattern and ignores the category")
+	public void testSearchFallbackEscapesQuery() {
+		// Given
+		givenCacheMiss();
+		when(lectureSearchClient.search(any())).thenReturn(Optional.empty());
+		givenFallbackResult();
+
+		// When
+		lectureService.search(1, 20, "backend", null, null, "  100%_c\\ ", null);
+
+		// Then
+		verify(lectureRepository).searchForFallback(eq("100\\%\\_c\\\\%"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("Test search() - maps each sort to the ES sort and to the fallback sort")
+	public void testSearchSort() {
+		// Given
+		Map<String, List<Sort>> sorts = Map.of(
+			"popular", List.of(Sort.by(Sort.Direction.DESC, "popularity"), Sort.by(Sort.Direction.DESC, "reviewCnt")),
+			"most_bookmarked", List.of(Sort.by(Sort.Direction.DESC, "bookmarkCnt"), Sort.by(Sort.Direction.DESC, "bookmarkCnt")),
+			"newest", List.of(Sort.by(Sort.Direction.DESC, "createdAt"), Sort.by(Sort.Direction.DESC, "createdAt")),
+			"price_asc", List.of(Sort.by(Sort.Direction.ASC, "currentPrice"), Sort.by(Sort.Direction.ASC, "currentPrice")),
+			"unknown", List.of(Sort.by(Sort.Order.desc("_score")), Sort.by(Sort.Direction.DESC, "reviewCnt"))
+		);
+		givenCacheMiss();
+		when(lectureSearchClient.search(any())).thenReturn(Optional.empty());
+		givenFallbackResult();
+
+		sorts.forEach((sort, expected) -> {
+			// When
+			lectureService.search(2, 10, null, null, sort, "java", null);
+
+			// Then
+			ArgumentCaptor<NativeQuery> query = ArgumentCaptor.forClass(NativeQuery.class);
+			verify(lectureSearchClient, atLeastOnce()).search(query.capture());
+			ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+			verify(lectureRepository, atLeastOnce()).searchForFallback(any(), any(), any(), any(), any(), pageable.capture());
+			assertEquals(expected.get(0), query.getValue().getPageable().getSort(), sort);
+			assertEquals(expected.get(1), pageable.getValue().getSort(), sort);
+			assertEquals(1, pageable.getValue().getPageNumber());
+		});
+	}
+
+	@Test
+	@DisplayName("Test searchBatch() - keeps request order, reuses cached rows and sends duplicate rows once")
+	@SuppressWarnings("unchecked")
+	public void testSearchBatch() {
+		// Given
+		CustomPage<LectureSearchDetailDto> cached = givenBatchCache();
+		when(lectureSearchClient.multiSearch(anyList())).thenReturn(Optional.of(List.of(
+			new LectureSearchClient.Result(List.of(), 3, null),
+			new LectureSearchClient.Result(List.of(), 7, null))));
+
+		// When
+		Map<String, CustomPage<LectureSearchDetailDto>> result = lectureService.searchBatch(
+			List.of(newestSpec, cachedSpec, javaSpec, sameJavaSpec));
+
+		// Then
+		assertEquals(List.of("newest", "cached", "java", "java2"), List.copyOf(result.keySet()));
+		assertSame(cached, result.get("cached"));
+		assertEquals(3, result.get("newest").getTotalElements());
+		assertEquals(7, result.get("java").getTotalElements());
+		assertSame(result.get("java"), result.get("java2"));
+		assertFalse(result.get("java").isDegraded());
+		ArgumentCaptor<List<NativeQuery>> queries = ArgumentCaptor.forClass(List.class);
+		verify(lectureSearchClient).multiSearch(queries.capture());
+		assertEquals(2, queries.getValue().size());
+		assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), queries.getValue().get(0).getPageable().getSort());
+		verify(lectureSearchCache).put(eq(newestSpec), any());
+		verify(lectureSearchCache).put(eq(javaSpec), any());
+		verify(lectureSearchCache, never()).put(eq(sameJavaSpec), any());
+		verifyNoInteractions(lectureRepository);
+	}
+
+	@Test
+	@DisplayName("Test searchBatch() - falls back row by row when the multi search does not answer")
+	public void testSearchBatchFallback() {
+		// Given
+		CustomPage<LectureSearchDetailDto> cached = givenBatchCache();
+		when(lectureSearchClient.multiSearch(anyList())).thenReturn(Optional.empty());
+		givenFallbackResult();
+
+		// When
+		Map<String, CustomPage<LectureSearchDetailDto>> result = lectureService.searchBatch(
+			List.of(cachedSpec, javaSpec, sameJavaSpec, newestSpec));
+
+		// Then
+		assertEquals(List.of("cached", "java", "java2", "newest"), List.copyOf(result.keySet()));
+		assertSame(cached, result.get("cached"));
+		assertTrue(result.get("java").isDegraded());
+		assertTrue(result.get("java2").isDegraded());
+		assertTrue(result.get("newest").isDegraded());
+		verify(lectureRepository).searchForFallback(eq("java%"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+		verify(lectureRepository).searchForFallback(isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+		verify(lectureRepository, times(2)).searchForFallback(any(), any(), any(), any(), any(), any(Pageable.class));
+	}
+}
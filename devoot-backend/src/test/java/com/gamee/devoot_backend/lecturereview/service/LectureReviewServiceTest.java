@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.gamee.devoot_backend.lecture.entity.Lecture;
+import com.gamee.devoot_backend.lecture.repository.LectureOutboxRepository;
 import com.gamee.devoot_backend.lecture.repository.LectureRepository;
 import com.gamee.devoot_backend.lecturereview.entity.LectureReview;
 import com.gamee.devoot_backend.lecturereview.entity.LectureReviewReport;
@@ -34,6 +35,9 @@ public class LectureReviewServiceTest {
 	@Mock
 	LectureRepository lectureRepository;
 
+	@Mock
+	LectureOutboxRepository lectureOutboxRepository;
+
 	@InjectMocks
 	LectureReviewService lectureReviewService;
 
@@ -55,6 +59,7 @@ public class LectureReviewServiceTest {
 		// Then
 		verify(lectureReviewRepository).save(any());
 		verify(lectureRepository).incrementReviewStats(lectureId, rating);
+		verify(lectureOutboxRepository).save(argThat(outbox -> outbox.getLectureId().equals(lectureId)));
 	}
 
 	@Test
@@ -562,5 +562,27 @@ public class TodoServiceTest {
 		verify(todoRepository).delete(todo);
 		verify(todoContributionRepository).decrementContribution(todo.getUserId(), todo.getDate());
 		verify(todoContributionRepository).deleteContributionIfZero(todo.getUserId(), todo.getDate());
+		verify(userService).increaseTodoVersion(user.id());
+	}
+
+	@Test
+	@DisplayName("Test getTodosEtag() - changes with todoVersion and the requested date")
+	public void testGetTodosEtag() {
+		// Given
+		LocalDate date = LocalDate.of(2025, 1, 1);
+		User followedUser = User.builder().id(2L).profileId("followed").todoVersion(3).build();
+		when(followService.validateAccessAndFetchFollowedUser(user, "followed")).thenReturn(followedUser);
+
+		// When
+		String etag = todoService.getTodosEtag(user, "followed", date);
+		String sameEtag = todoService.getTodosEtag(user, "followed", date);
+		String otherDateEtag = todoService.getTodosEtag(user, "followed", date.plusDays(1));
+		followedUser.setTodoVersion(4);
+		String changedEtag = todoService.getTodosEtag(user, "followed", date);
+
+		// Then
+		assertEquals(etag, sameEtag);
+		assertNotEquals(etag, otherDateEtag);
+		assertNotEquals(etag, changedEtag);
 	}
 }
@@ -0,0 +1,111 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gamee.devoot_backend.user.exception.UserAuthenticationFailedException;
+import com.gamee.devoot_backend.user.exception.UserInvalidTokenException;
+import com.gamee.devoot_backend.user.exception.UserTokenExpiredException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FirebaseTokenVerifierTest {
+	static final String PROJECT_ID = "devoot-test";
+	static final Instant NOW = Instant.parse("2025-02-01T00:00:00Z");
+
+	KeyPair keyPair;
+	KeyPair otherKeyPair;
+	FirebaseTokenVerifier verifier;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+		otherKeyPair = generator.generateKeyPair();
+
+		FirebaseKeySource keySource = () -> new FirebaseKeySource.KeySet(Map.of("kid-1", keyPair.getPublic()), Duration.ofHours(1));
+		verifier = new FirebaseTokenVerifier(
+			new FirebaseKeyStore(keySource),
+			PROJECT_ID,
+			Clock.fixed(NOW, ZoneOffset.UTC),
+			new SimpleMeterRegistry()
+		);
+	}
+
+	private String createToken(KeyPair signer, String kid, String aud, long exp) throws Exception {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("""
+			{"alg":"RS256","kid":"%s"}""".formatted(kid).getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString("""
+			{"iss":"https://securetoken.google.com/%s","aud":"%s","sub":"uid-1","email":"devoot@gmail.com",
+			"iat":%d,"auth_time":%d,"exp":%d}""".formatted(aud, aud, NOW.getEpochSecond() - 60, NOW.getEpochSecond() - 60, exp)
+			.getBytes(StandardCharsets.UTF_8));
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(signer.getPrivate());
+		signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+		return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+	}
+
+	@Test
+	@DisplayName("Test verify() - successful")
+	public void testVerify1() throws Exception {
+		// Given
+		long exp = NOW.getEpochSecond() + 3600;
+		String token = createToken(keyPair, "kid-1", PROJECT_ID, exp);
+
+		// When
+		FirebaseTokenVerifier.VerifiedToken verifiedToken = verifier.verify(token);
+
+		// Then
+		assertEquals("uid-1", verifiedToken.uid());
+		assertEquals("devoot@gmail.com", verifiedToken.email());
+		assertEquals(Instant.ofEpochSecond(exp), verifiedToken.expiresAt());
+	}
+
+	@Test
+	@DisplayName("Test verify() - throws UserInvalidTokenException when signed by another key")
+	public void testVerify2() throws Exception {
+		String token = createToken(otherKeyPair, "kid-1", PROJECT_ID, NOW.getEpochSecond() + 3600);
+
+		assertThrows(UserInvalidTokenException.class, () -> verifier.verify(token));
+	}
+
+	@Test
+	@DisplayName("Test verify() - throws UserInvalidTokenException when audience differs")
+	public void testVerify3() throws Exception {
+		String token = createToken(keyPair, "kid-1", "other-project", NOW.getEpochSecond() + 3600);
+
+		assertThrows(UserInvalidTokenException.class, () -> verifier.verify(token));
+	}
+
+	@Test
+	@DisplayName("Test verify() - throws UserTokenExpiredException")
+	public void testVerify4() throws Exception {
+		String token = createToken(keyPair, "kid-1", PROJECT_ID, NOW.getEpochSecond() - 3600);
+
+		assertThrows(UserTokenExpiredException.class, () -> verifier.verify(token));
+	}
+
+	@Test
+	@DisplayName("Test verify() - throws UserAuthenticationFailedException for unknown kid")
+	public void testVerify5() throws Exception {
+		String token = createToken(keyPair, "kid-unknown", PROJECT_ID, NOW.getEpochSecond() + 3600);
+
+		assertThrows(UserAuthenticationFailedException.class, () -> verifier.verify(token));
+	}
+}
@@ -0,0 +1,50 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PublicRoutesTest {
+	@Test
+	@DisplayName("Test isAnonymousGet() - public GET routes")
+	public void testIsAnonymousGet1() {
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures"));
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures/123"));
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures/search"));
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures/search/"));
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures/search/cursor"));
+		assertTrue(PublicRoutes.isAnonymousGet("GET", "/api/lectures/suggest"));
+		assertTrue(PublicRoutes.isAnonymousGet("get", "/api/reviews/lectures/7"));
+	}
+
+	@Test
+	@DisplayName("Test isAnonymousGet() - rejects other routes and methods")
+	public void testIsAnonymousGet2() {
+		assertFalse(PublicRoutes.isAnonymousGet("POST", "/api/lectures"));
+		assertFalse(PublicRoutes.isAnonymousGet("POST", "/api/lectures/123"));
+		assertFalse(PublicRoutes.isAnonymousGet("GET", "/api/lectures/123/curriculum"));
+		assertFalse(PublicRoutes.isAnonymousGet("GET", "/api/lectures/abc"));
+		assertFalse(PublicRoutes.isAnonymousGet("GET", "/api/reviews/lectures/7/me"));
+		assertFalse(PublicRoutes.isAnonymousGet("GET", "/api/users/me"));
+		assertFalse(PublicRoutes.isAnonymousGet("GET", null));
+	}
+
+	@Test
+	@DisplayName("Test isAnonymous() - public GET routes and read-only POST routes")
+	public void testIsAnonymous() {
+		assertTrue(PublicRoutes.isAnonymous("GET", "/api/lectures/search"));
+		assertTrue(PublicRoutes.isAnonymous("POST", "/api/lectures/search/batch"));
+		assertFalse(PublicRoutes.isAnonymous("GET", "/api/lectures/search/batch"));
+		assertFalse(PublicRoutes.isAnonymous("POST", "/api/lectures/search"));
+		assertFalse(PublicRoutes.isAnonymous("POST", "/api/lectures/reindex"));
+	}
+
+	@Test
+	@DisplayName("Test isTokenOnly()")
+	public void testIsTokenOnly() {
+		assertTrue(PublicRoutes.isTokenOnly("/api/users/register"));
+		assertTrue(PublicRoutes.isTokenOnly("/api/users/check-profile-id"));
+		assertFalse(PublicRoutes.isTokenOnly("/api/users/check-profile-id/authenticated"));
+	}
+}
@@ -0,0 +1,97 @@
+package com.gamee.devoot_backend.user.firebase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gamee.devoot_backend.user.dto.CustomUserDetails;
+import com.gamee.devoot_backend.user.entity.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UserPrincipalCacheTest {
+	UserPrincipalCache userPrincipalCache;
+	AtomicInteger loadCount;
+	User user = User.builder().id(1L).uid("uid").profileId("profileId").build();
+
+	@BeforeEach
+	void setUp() {
+		userPrincipalCache = new UserPrincipalCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		loadCount = new AtomicInteger();
+	}
+
+	private Optional<User> load(String uid) {
+		loadCount.incrementAndGet();
+		return uid.equals(user.getUid()) ? Optional.of(user) : Optional.empty();
+	}
+
+	@Test
+	@DisplayName("Test get() - loads once and serves from cache")
+	public void testGet1() {
+		// When
+		Optional<CustomUserDetails> first = userPrincipalCache.get("uid", this::load);
+		Optional<CustomUserDetails> second = userPrincipalCache.get("uid", this::load);
+
+		// Then
+		assertTrue(first.isPresent());
+		assertEquals(first, second);
+		assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	@DisplayName("Test get() - unknown uid is not cached")
+	public void testGet2() {
+		// When
+		userPrincipalCache.get("unknown", this::load);
+		Optional<CustomUserDetails> result = userPrincipalCache.get("unknown", this::load);
+
+		// Then
+		assertTrue(result.isEmpty());
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	@DisplayName("Test evict() - reloads after eviction")
+	public void testEvict() {
+		// Given
+		userPrincipalCache.get("uid", this::load);
+		user.setNickname("changed");
+
+		// When
+		userPrincipalCache.evict("uid");
+		Optional<CustomUserDetails> result = userPrincipalCache.get("uid", this::load);
+
+		// Then
+		assertEquals("changed", result.get().nickname());
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	@DisplayName("Test evict() - waits for the transaction to commit")
+	public void testEvictAfterCommit() {
+		// Given
+		userPrincipalCache.get("uid", this::load);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// When
+			userPrincipalCache.evict("uid");
+			userPrincipalCache.get("uid", this::load);
+			assertEquals(1, loadCount.get());
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		userPrincipalCache.get("uid", this::load);
+
+		// Then
+		assertEquals(2, loadCount.get());
+	}
+}
@@ -6,6 +6,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +29,8 @@ public class UserRepositoryTest {
 	private BookmarkRepository bookmarkRepository;
 	@Autowired
 	private FollowRepository followRepository;
+	@Autowired
+	private EntityManager em;
 
 	@Test
 	@DisplayName("Test searchByPrefix()")
@@ -127,4 +131,25 @@ public class UserRepositoryTest {
 		// Then
 		assertEquals("PENDING", isFollowing);
 	}
+
+	@Test
+	@DisplayName("Test incrementBookmarkVersion(), incrementTodoVersion(), incrementProfileVersion() - bump only the matching counter")
+	public void testIncrementVersions() {
+		// Given
+		User user = userRepository.save(User.builder().uid("1").profileId("devoot1").nickname("devoot").build());
+		em.flush();
+
+		// When
+		userRepository.incrementBookmarkVersion(user.getId());
+		userRepository.incrementBookmarkVersion(user.getId());
+		userRepository.incrementTodoVersion(user.getId());
+		userRepository.incrementProfileVersion(user.getId());
+		em.clear();
+
+		// Then
+		User found = userRepository.findById(user.getId()).orElseThrow();
+		assertEquals(2, userRepository.findBookmarkVersionById(user.getId()));
+		assertEquals(1, found.getTodoVersion());
+		assertEquals(1, found.getProfileVersion());
+	}
 }
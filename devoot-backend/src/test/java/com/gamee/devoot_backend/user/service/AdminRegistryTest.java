@@ -0,0 +1,56 @@
+package com.gamee.devoot_backend.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gamee.devoot_backend.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminRegistryTest {
+	@Mock
+	UserRepository userRepository;
+
+	@InjectMocks
+	AdminRegistry adminRegistry;
+
+	@Test
+	@DisplayName("Test isAdmin() - answers from the loaded id set")
+	public void testIsAdmin() {
+		// Given
+		when(userRepository.findAllAdminUserIds()).thenReturn(List.of(1L, 2L));
+
+		// When
+		adminRegistry.refresh();
+
+		// Then
+		assertTrue(adminRegistry.isAdmin(1L));
+		assertFalse(adminRegistry.isAdmin(3L));
+		assertFalse(adminRegistry.isAdmin(null));
+		verify(userRepository, times(1)).findAllAdminUserIds();
+	}
+
+	@Test
+	@DisplayName("Test refresh() - keeps previous ids when loading fails")
+	public void testRefresh() {
+		// Given
+		when(userRepository.findAllAdminUserIds())
+			.thenReturn(List.of(1L))
+			.thenThrow(new RuntimeException("db down"));
+		adminRegistry.refresh();
+
+		// When
+		adminRegistry.refresh();
+
+		// Then
+		assertTrue(adminRegistry.isAdmin(1L));
+	}
+}
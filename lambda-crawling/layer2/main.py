@@ -318,7 +318,7 @@ def insert_lecture(data):
         INSERT INTO `lecture` 
         (`category`, `name`, `lecturer`, `imageUrl`, `originalPrice`, `currentPrice`, 
          `curriculum`, `sourceUrl`, `sourceName`, `tags`, `hash`) 
-        VALUES (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)
+        VALUES (%s, %s, %s, %s, %s, %s, COMPRESS(%s), %s, %s, %s, %s)
     '''
     print(f"SQL: {sql}")
 